@@ -0,0 +1,205 @@
+package junghun.tdd.spring.loadtest;
+
+import static junghun.tdd.spring.domain.product.ProductSellingStatus.HOLD;
+import static junghun.tdd.spring.domain.product.ProductSellingStatus.SELLING;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import junghun.tdd.spring.TddApplication;
+import junghun.tdd.spring.domain.product.Product;
+import junghun.tdd.spring.domain.product.ProductRepository;
+import junghun.tdd.spring.domain.product.ProductType;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+/*
+ * 키오스크 여러 대가 메뉴판을 주기적으로 새로고침하고 가끔 주문을 넣는 상황을 흉내낸다.
+ * 가상 스레드 하나가 키오스크 한 대이며, 엔드포인트별 응답시간을 HdrHistogram으로 기록한 뒤
+ * 리포트를 남기고 SLO를 넘으면 실패한다.
+ * 같은 트래픽을 MVC와 WebFlux 스택에 각각 흘리도록 하위 클래스가 프로필을 고른다.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(classes = TddApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {"spring.jpa.show-sql=false", "spring.sql.init.mode=never"})
+abstract class AbstractKioskLoadTest {
+    private static final ProductType[] PRODUCT_TYPES = ProductType.values();
+    private static final String SELLING_PRODUCTS = "GET /api/v1/products/selling";
+    private static final String NEW_ORDERS = "POST /api/v1/orders/new";
+
+    private final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private List<String> productNumbers;
+
+    private HttpClient httpClient;
+
+    // 리포트 파일 이름에 붙는 스택 이름
+    abstract String stack();
+
+    @BeforeAll
+    void setUp() {
+        productNumbers = seedProducts(settings.products());
+        httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+    }
+
+    @DisplayName("키오스크 트래픽을 흘려 엔드포인트별 응답시간과 처리량이 SLO 안에 있는지 확인한다.")
+    @Test
+    void kioskTraffic() throws Exception {
+        // given
+        EndpointStats sellingProducts = new EndpointStats(SELLING_PRODUCTS);
+        EndpointStats newOrders = new EndpointStats(NEW_ORDERS);
+
+        // when
+        double elapsedSeconds = drive(settings.clients(), settings.duration(), sellingProducts, newOrders);
+        new LoadTestReport(stack(), settings, List.of(sellingProducts, newOrders), elapsedSeconds).write();
+
+        // then
+        SoftAssertions softly = new SoftAssertions();
+        assertSlo(softly, sellingProducts, elapsedSeconds, settings.productsP99Millis(), settings.productsMinThroughput());
+        assertSlo(softly, newOrders, elapsedSeconds, settings.ordersP99Millis(), settings.ordersMinThroughput());
+        softly.assertAll();
+    }
+
+    // 동시 접속 수를 단계별로 올리다 p99나 오류율 SLO를 처음 넘는 단계에서 멈춘다.
+    @DisplayName("동시 접속 수를 올려 가며 SLO를 지키는 최대 접속 수를 코어당 값으로 남긴다.")
+    @Test
+    void connectionsPerCore() throws Exception {
+        // given
+        ConnectionsPerCoreReport report = new ConnectionsPerCoreReport(stack(), settings);
+
+        // when
+        for (int concurrency : settings.rampConcurrencies()) {
+            EndpointStats sellingProducts = new EndpointStats(SELLING_PRODUCTS);
+            EndpointStats newOrders = new EndpointStats(NEW_ORDERS);
+            double elapsedSeconds = drive(concurrency, settings.rampStepDuration(), sellingProducts, newOrders);
+            boolean withinSlo = withinSlo(sellingProducts, settings.productsP99Millis())
+                && withinSlo(newOrders, settings.ordersP99Millis());
+            report.addStep(concurrency, List.of(sellingProducts, newOrders), elapsedSeconds, withinSlo);
+            if (!withinSlo) {
+                break;
+            }
+        }
+        report.write();
+
+        // then
+        assertThat(report.getMaxConcurrencyWithinSlo())
+            .as("%s max concurrency within SLO", stack())
+            .isPositive();
+    }
+
+    // 클라이언트가 예외로 멈추면 그만큼 부하가 줄어 결과를 믿을 수 없으므로 실행을 실패시킨다.
+    private double drive(int clients, Duration duration, EndpointStats sellingProducts, EndpointStats newOrders) throws Exception {
+        long startedNanos = System.nanoTime();
+        long deadlineNanos = startedNanos + duration.toNanos();
+        List<Future<Void>> runningClients = new ArrayList<>(clients);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                runningClients.add(executor.submit(() -> runClient(deadlineNanos, sellingProducts, newOrders)));
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - startedNanos) / 1_000_000_000.0;
+        for (Future<Void> client : runningClients) {
+            client.get();
+        }
+        return elapsedSeconds;
+    }
+
+    private Void runClient(long deadlineNanos, EndpointStats sellingProducts, EndpointStats newOrders) throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadlineNanos) {
+            if (random.nextDouble() < settings.orderRatio()) {
+                send(newOrders, orderRequest(random));
+            } else {
+                send(sellingProducts, HttpRequest.newBuilder(uri("/api/v1/products/selling")).GET().build());
+            }
+            if (settings.thinkTimeMillis() > 0) {
+                Thread.sleep(random.nextLong(settings.thinkTimeMillis() + 1));
+            }
+        }
+        return null;
+    }
+
+    private void send(EndpointStats stats, HttpRequest request) throws InterruptedException {
+        long startedNanos = System.nanoTime();
+        boolean success;
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            success = response.statusCode() / 100 == 2;
+        } catch (IOException e) {
+            success = false;
+        }
+        stats.record(System.nanoTime() - startedNanos, success);
+    }
+
+    // 한 번 주문에 1~3개의 상품을 담는다.
+    private HttpRequest orderRequest(ThreadLocalRandom random) {
+        String query = IntStream.range(0, random.nextInt(1, 4))
+            .mapToObj(i -> "productNumbers=" + productNumbers.get(random.nextInt(productNumbers.size())))
+            .collect(Collectors.joining("&"));
+        return HttpRequest.newBuilder(uri("/api/v1/orders/new?" + query))
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private List<String> seedProducts(int count) {
+        List<Product> products = IntStream.range(0, count)
+            .mapToObj(i -> Product.builder()
+                .productNumber(String.format("P%04d", i))
+                .productType(PRODUCT_TYPES[i % PRODUCT_TYPES.length])
+                .sellingStatus(i % 10 == 9 ? HOLD : SELLING)
+                .name("메뉴" + i)
+                .price(1000 + (i % 10) * 500)
+                .build())
+            .toList();
+        return productRepository.saveAll(products).stream()
+            .map(Product::getProductNumber)
+            .toList();
+    }
+
+    private boolean withinSlo(EndpointStats stats, double p99Millis) {
+        return stats.getPercentileMillis(99) <= p99Millis && stats.getErrorRate() <= settings.maxErrorRate();
+    }
+
+    private void assertSlo(SoftAssertions softly, EndpointStats stats, double elapsedSeconds, double p99Millis, double minThroughput) {
+        softly.assertThat(stats.getPercentileMillis(99))
+            .as("%s %s p99 latency (ms)", stack(), stats.getName())
+            .isLessThanOrEqualTo(p99Millis);
+        softly.assertThat(stats.getThroughput(elapsedSeconds))
+            .as("%s %s throughput (req/s)", stack(), stats.getName())
+            .isGreaterThanOrEqualTo(minThroughput);
+        softly.assertThat(stats.getErrorRate())
+            .as("%s %s error rate", stack(), stats.getName())
+            .isLessThanOrEqualTo(settings.maxErrorRate());
+    }
+}
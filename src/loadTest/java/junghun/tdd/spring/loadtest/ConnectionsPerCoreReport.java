@@ -0,0 +1,70 @@
+package junghun.tdd.spring.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 동시 접속 수를 단계별로 올린 결과와, SLO를 지킨 가장 높은 단계를 코어 수로 나눈 값을 connections-per-core-{stack}.json으로 남긴다.
+class ConnectionsPerCoreReport {
+    private final String stack;
+    private final LoadTestSettings settings;
+    private final int cores = Runtime.getRuntime().availableProcessors();
+    private final List<Map<String, Object>> steps = new ArrayList<>();
+    private int maxConcurrencyWithinSlo;
+
+    ConnectionsPerCoreReport(String stack, LoadTestSettings settings) {
+        this.stack = stack;
+        this.settings = settings;
+    }
+
+    void addStep(int concurrency, List<EndpointStats> endpoints, double elapsedSeconds, boolean withinSlo) {
+        Map<String, Object> endpointMap = new LinkedHashMap<>();
+        for (EndpointStats endpoint : endpoints) {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("requests", endpoint.getCount());
+            stats.put("errorRate", endpoint.getErrorRate());
+            stats.put("throughputPerSecond", endpoint.getThroughput(elapsedSeconds));
+            stats.put("p99Millis", endpoint.getPercentileMillis(99));
+            endpointMap.put(endpoint.getName(), stats);
+        }
+
+        Map<String, Object> step = new LinkedHashMap<>();
+        step.put("concurrency", concurrency);
+        step.put("withinSlo", withinSlo);
+        step.put("endpoints", endpointMap);
+        steps.add(step);
+        if (withinSlo) {
+            maxConcurrencyWithinSlo = Math.max(maxConcurrencyWithinSlo, concurrency);
+        }
+    }
+
+    int getMaxConcurrencyWithinSlo() {
+        return maxConcurrencyWithinSlo;
+    }
+
+    double getConnectionsPerCore() {
+        return (double) maxConcurrencyWithinSlo / cores;
+    }
+
+    void write() throws IOException {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("stack", stack);
+        json.put("cores", cores);
+        json.put("stepSeconds", settings.rampStepDuration().toSeconds());
+        json.put("maxConcurrencyWithinSlo", maxConcurrencyWithinSlo);
+        json.put("connectionsPerCore", getConnectionsPerCore());
+        json.put("steps", steps);
+
+        Path directory = settings.reportDirectory();
+        Files.createDirectories(directory);
+        new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .writeValue(directory.resolve("connections-per-core-" + stack + ".json").toFile(), json);
+    }
+}
@@ -0,0 +1,55 @@
+package junghun.tdd.spring.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+// 엔드포인트 하나의 응답시간(마이크로초)과 실패 건수를 모은다.
+class EndpointStats {
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final String name;
+    private final Histogram histogram = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    void record(long elapsedNanos, boolean success) {
+        histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_TRACKABLE_MICROS));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    String getName() {
+        return name;
+    }
+
+    long getCount() {
+        return histogram.getTotalCount();
+    }
+
+    long getErrors() {
+        return errors.sum();
+    }
+
+    double getErrorRate() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) getErrors() / count;
+    }
+
+    double getThroughput(double elapsedSeconds) {
+        return getCount() / elapsedSeconds;
+    }
+
+    double getPercentileMillis(double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    double getMaxMillis() {
+        return histogram.getMaxValue() / 1000.0;
+    }
+}
@@ -0,0 +1,99 @@
+package junghun.tdd.spring.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 엔드포인트별 처리량과 응답시간 분포를 report-{stack}.json / report-{stack}.html로 남긴다.
+class LoadTestReport {
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final String stack;
+    private final LoadTestSettings settings;
+    private final List<EndpointStats> endpoints;
+    private final double elapsedSeconds;
+
+    LoadTestReport(String stack, LoadTestSettings settings, List<EndpointStats> endpoints, double elapsedSeconds) {
+        this.stack = stack;
+        this.settings = settings;
+        this.endpoints = endpoints;
+        this.elapsedSeconds = elapsedSeconds;
+    }
+
+    void write() throws IOException {
+        Path directory = settings.reportDirectory();
+        Files.createDirectories(directory);
+        new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .writeValue(directory.resolve("report-" + stack + ".json").toFile(), toJson());
+        Files.writeString(directory.resolve("report-" + stack + ".html"), toHtml());
+    }
+
+    private Map<String, Object> toJson() {
+        Map<String, Object> endpointMap = new LinkedHashMap<>();
+        for (EndpointStats endpoint : endpoints) {
+            Map<String, Object> latency = new LinkedHashMap<>();
+            for (double percentile : PERCENTILES) {
+                latency.put("p" + format(percentile), endpoint.getPercentileMillis(percentile));
+            }
+            latency.put("max", endpoint.getMaxMillis());
+
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("requests", endpoint.getCount());
+            stats.put("errors", endpoint.getErrors());
+            stats.put("throughputPerSecond", endpoint.getThroughput(elapsedSeconds));
+            stats.put("latencyMillis", latency);
+            endpointMap.put(endpoint.getName(), stats);
+        }
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("stack", stack);
+        json.put("clients", settings.clients());
+        json.put("products", settings.products());
+        json.put("elapsedSeconds", elapsedSeconds);
+        json.put("endpoints", endpointMap);
+        return json;
+    }
+
+    private String toHtml() {
+        StringBuilder rows = new StringBuilder();
+        for (EndpointStats endpoint : endpoints) {
+            rows.append("<tr><td>").append(endpoint.getName()).append("</td>")
+                .append("<td>").append(endpoint.getCount()).append("</td>")
+                .append("<td>").append(endpoint.getErrors()).append("</td>")
+                .append("<td>").append(String.format("%.1f", endpoint.getThroughput(elapsedSeconds))).append("</td>");
+            for (double percentile : PERCENTILES) {
+                rows.append("<td>").append(String.format("%.2f", endpoint.getPercentileMillis(percentile))).append("</td>");
+            }
+            rows.append("<td>").append(String.format("%.2f", endpoint.getMaxMillis())).append("</td></tr>\n");
+        }
+
+        StringBuilder percentileHeaders = new StringBuilder();
+        for (double percentile : PERCENTILES) {
+            percentileHeaders.append("<th>p").append(format(percentile)).append(" (ms)</th>");
+        }
+
+        return """
+            <!DOCTYPE html>
+            <html>
+            <head><meta charset="UTF-8"><title>Kiosk load test (%s)</title></head>
+            <body>
+            <h1>Kiosk load test (%s)</h1>
+            <p>%d clients, %d products, %.1f seconds</p>
+            <table border="1">
+            <tr><th>endpoint</th><th>requests</th><th>errors</th><th>req/s</th>%s<th>max (ms)</th></tr>
+            %s</table>
+            </body>
+            </html>
+            """.formatted(stack, stack, settings.clients(), settings.products(), elapsedSeconds, percentileHeaders, rows);
+    }
+
+    private static String format(double percentile) {
+        return percentile == Math.floor(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+}
@@ -0,0 +1,47 @@
+package junghun.tdd.spring.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+// gradle loadTest 태스크가 넘겨주는 시스템 프로퍼티를 읽는다. 넘겨받지 못한 값은 여기의 기본값을 쓴다.
+record LoadTestSettings(
+    int products,
+    int clients,
+    Duration duration,
+    double orderRatio,
+    long thinkTimeMillis,
+    double productsP99Millis,
+    double productsMinThroughput,
+    double ordersP99Millis,
+    double ordersMinThroughput,
+    double maxErrorRate,
+    List<Integer> rampConcurrencies,
+    Duration rampStepDuration,
+    Path reportDirectory) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+            Integer.parseInt(property("kiosk.loadtest.products", "50")),
+            Integer.parseInt(property("kiosk.loadtest.clients", "200")),
+            Duration.ofSeconds(Long.parseLong(property("kiosk.loadtest.duration-seconds", "30"))),
+            Double.parseDouble(property("kiosk.loadtest.order-ratio", "0.2")),
+            Long.parseLong(property("kiosk.loadtest.think-time-ms", "20")),
+            Double.parseDouble(property("kiosk.loadtest.slo.products.p99-ms", "200")),
+            Double.parseDouble(property("kiosk.loadtest.slo.products.min-throughput", "100")),
+            Double.parseDouble(property("kiosk.loadtest.slo.orders.p99-ms", "500")),
+            Double.parseDouble(property("kiosk.loadtest.slo.orders.min-throughput", "20")),
+            Double.parseDouble(property("kiosk.loadtest.slo.max-error-rate", "0.001")),
+            Arrays.stream(property("kiosk.loadtest.ramp.concurrencies", "25,50,100,200,400").split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .toList(),
+            Duration.ofSeconds(Long.parseLong(property("kiosk.loadtest.ramp.step-seconds", "10"))),
+            Path.of(property("kiosk.loadtest.report-dir", "build/reports/load-test")));
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty(name, defaultValue);
+    }
+}
@@ -0,0 +1,13 @@
+package junghun.tdd.spring.loadtest;
+
+import org.springframework.test.context.ActiveProfiles;
+
+// 서블릿 스택(Tomcat + JPA)
+@ActiveProfiles("test")
+class MvcKioskLoadTest extends AbstractKioskLoadTest {
+
+    @Override
+    String stack() {
+        return "mvc";
+    }
+}
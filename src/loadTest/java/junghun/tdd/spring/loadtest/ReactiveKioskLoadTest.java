@@ -0,0 +1,15 @@
+package junghun.tdd.spring.loadtest;
+
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+// 리액티브 스택(Netty + R2DBC). 테스트 컨텍스트는 프로필보다 먼저 웹 애플리케이션 종류를 정하므로 여기서 직접 지정한다.
+@ActiveProfiles("reactive")
+@TestPropertySource(properties = "spring.main.web-application-type=reactive")
+class ReactiveKioskLoadTest extends AbstractKioskLoadTest {
+
+    @Override
+    String stack() {
+        return "reactive";
+    }
+}
@@ -0,0 +1,34 @@
+package junghun.tdd.spring.api.controller;
+
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+// MVC와 WebFlux 컨트롤러 모두에 적용된다.
+@RestControllerAdvice
+public class ApiControllerAdvice {
+
+    // 재고 부족, 없는 상품번호처럼 요청 내용으로 처리할 수 없는 경우
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ProblemDetail handleIllegalArgument(IllegalArgumentException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    // 이미 접수된 주문을 다시 접수하는 것처럼 현재 상태에서 할 수 없는 요청인 경우
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(IllegalStateException.class)
+    public ProblemDetail handleIllegalState(IllegalStateException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage());
+    }
+
+    // 같은 행을 잡으려는 동시 요청에 밀린 경우로, 다시 요청하면 처리될 수 있다.
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ProblemDetail handleConcurrencyFailure(ConcurrencyFailureException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, "The request conflicted with a concurrent update. Please retry.");
+    }
+}
@@ -0,0 +1,45 @@
+package junghun.tdd.spring.api.controller.kitchen;
+
+import java.util.List;
+import junghun.tdd.spring.api.service.kitchen.KitchenService;
+import junghun.tdd.spring.api.service.kitchen.KitchenStationMetrics;
+import junghun.tdd.spring.api.service.kitchen.response.KitchenOrderResponse;
+import junghun.tdd.spring.api.service.kitchen.response.KitchenTicketResponse;
+import junghun.tdd.spring.domain.kitchen.KitchenStation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Profile("!reactive")
+@RestController
+@RequiredArgsConstructor
+public class KitchenController {
+    private final KitchenService kitchenService;
+
+    @PostMapping("/api/v1/kitchen/orders/{orderId}/receive")
+    public KitchenOrderResponse receiveOrder(@PathVariable Long orderId) {
+        return kitchenService.receiveOrder(orderId);
+    }
+
+    // 꺼낼 작업이 없으면 204로 응답한다.
+    @PostMapping("/api/v1/kitchen/stations/{station}/lanes/{lane}/next")
+    public ResponseEntity<KitchenTicketResponse> next(@PathVariable KitchenStation station, @PathVariable int lane) {
+        return kitchenService.next(station, lane)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    @PostMapping("/api/v1/kitchen/tickets/{ticketId}/finish")
+    public void finishTicket(@PathVariable Long ticketId) {
+        kitchenService.finishTicket(ticketId);
+    }
+
+    @GetMapping("/api/v1/kitchen/metrics")
+    public List<KitchenStationMetrics> getMetrics() {
+        return kitchenService.getMetrics();
+    }
+}
@@ -0,0 +1,21 @@
+package junghun.tdd.spring.api.controller.order;
+
+import java.time.LocalDateTime;
+import junghun.tdd.spring.api.service.order.archive.OrderArchiveMetrics;
+import junghun.tdd.spring.api.service.order.archive.OrderArchiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Profile("!reactive")
+@RestController
+@RequiredArgsConstructor
+public class OrderArchiveController {
+    private final OrderArchiveService orderArchiveService;
+
+    @GetMapping("/api/v1/orders/archive/metrics")
+    public OrderArchiveMetrics getMetrics() {
+        return orderArchiveService.getMetrics(LocalDateTime.now());
+    }
+}
@@ -1,18 +1,30 @@
 package junghun.tdd.spring.api.controller.order;
 
 import junghun.tdd.spring.api.controller.order.request.OrderCreateRequest;
+import junghun.tdd.spring.api.service.order.OrderQueryService;
 import junghun.tdd.spring.api.service.order.OrderService;
+import junghun.tdd.spring.api.service.order.response.OrderResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+@Profile("!reactive")
 @RestController
 @RequiredArgsConstructor
 public class OrderController {
     private final OrderService orderService;
+    private final OrderQueryService orderQueryService;
 
     @PostMapping("/api/v1/orders/new")
     public void createOrder(OrderCreateRequest request) {
          orderService.createOrder(request);
     }
+
+    @GetMapping("/api/v1/orders/{orderId}")
+    public OrderResponse getOrder(@PathVariable Long orderId) {
+        return orderQueryService.getOrder(orderId);
+    }
 }
@@ -0,0 +1,36 @@
+package junghun.tdd.spring.api.controller.order;
+
+import junghun.tdd.spring.api.controller.order.request.OrderCreateRequest;
+import junghun.tdd.spring.api.service.order.ReactiveOrderService;
+import junghun.tdd.spring.api.service.order.response.OrderResponse;
+import junghun.tdd.spring.api.service.order.response.OrderResultResponse;
+import junghun.tdd.spring.config.tenant.StoreContext;
+import junghun.tdd.spring.config.tenant.StoreContextFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Profile("reactive")
+@RestController
+@RequiredArgsConstructor
+public class ReactiveOrderController {
+    private final ReactiveOrderService orderService;
+
+    @PostMapping("/api/v1/orders/new")
+    public Mono<OrderResponse> createOrder(OrderCreateRequest request,
+                                           @RequestHeader(value = StoreContextFilter.STORE_ID_HEADER, required = false) Long storeId) {
+        return orderService.createOrder(request, StoreContext.resolveStoreId(storeId));
+    }
+
+    @PostMapping(value = "/api/v1/orders/stream", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<OrderResultResponse> createOrders(@RequestBody Flux<OrderCreateRequest> requests,
+                                            @RequestHeader(value = StoreContextFilter.STORE_ID_HEADER, required = false) Long storeId) {
+        return orderService.createOrders(requests, StoreContext.resolveStoreId(storeId));
+    }
+}
@@ -1,10 +1,13 @@
 package junghun.tdd.spring.api.controller.order.request;
 
 import java.util.List;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class OrderCreateRequest {
     private List<String> productNumbers;
 
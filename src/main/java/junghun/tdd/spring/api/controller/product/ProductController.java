@@ -3,11 +3,13 @@ package junghun.tdd.spring.api.controller.product;
 import junghun.tdd.spring.api.service.product.ProductService;
 import junghun.tdd.spring.api.service.product.response.ProductResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
 
+@Profile("!reactive")
 @RestController
 @RequiredArgsConstructor
 public class ProductController {
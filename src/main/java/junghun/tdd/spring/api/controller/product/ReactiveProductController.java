@@ -0,0 +1,24 @@
+package junghun.tdd.spring.api.controller.product;
+
+import junghun.tdd.spring.api.service.product.ReactiveProductService;
+import junghun.tdd.spring.api.service.product.response.ProductResponse;
+import junghun.tdd.spring.config.tenant.StoreContext;
+import junghun.tdd.spring.config.tenant.StoreContextFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+@Profile("reactive")
+@RestController
+@RequiredArgsConstructor
+public class ReactiveProductController {
+    private final ReactiveProductService productService;
+
+    @GetMapping("/api/v1/products/selling")
+    public Flux<ProductResponse> getProducts(@RequestHeader(value = StoreContextFilter.STORE_ID_HEADER, required = false) Long storeId) {
+        return productService.getProducts(StoreContext.resolveStoreId(storeId));
+    }
+}
@@ -0,0 +1,227 @@
+package junghun.tdd.spring.api.service.kitchen;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import junghun.tdd.spring.domain.kitchen.KitchenStation;
+import junghun.tdd.spring.domain.product.Product;
+
+/*
+ * 접수된 주문의 상품을 스테이션별 작업 큐로 나누어 배정한다.
+ * 직원은 각자 자기 큐(lane)의 앞에서 작업을 꺼내고, 자기 큐가 비면 가장 밀린 동료 큐의 뒤에서 작업을 가져온다(work stealing).
+ * 주문의 모든 상품이 끝나면 완료된 주문 번호를 돌려준다. 주문 상태 변경은 KitchenService가 맡는다.
+ */
+public class KitchenDispatcher {
+    private final Map<KitchenStation, List<Deque<KitchenTicket>>> lanes = new EnumMap<>(KitchenStation.class);
+    private final Map<KitchenStation, StationStatistics> statistics = new EnumMap<>(KitchenStation.class);
+    private final Map<Long, AtomicInteger> remainingTickets = new ConcurrentHashMap<>();
+    private final Map<Long, KitchenTicket> startedTickets = new ConcurrentHashMap<>();
+    private final AtomicLong ticketSequence = new AtomicLong();
+    private final LongSupplier nanoClock;
+
+    public KitchenDispatcher(int baristaCount, int counterCount) {
+        this(baristaCount, counterCount, System::nanoTime);
+    }
+
+    KitchenDispatcher(int baristaCount, int counterCount, LongSupplier nanoClock) {
+        if (baristaCount <= 0 || counterCount <= 0) {
+            throw new IllegalArgumentException("Each station needs at least one lane.");
+        }
+        this.nanoClock = nanoClock;
+        for (KitchenStation station : KitchenStation.values()) {
+            int laneCount = station == KitchenStation.BARISTA ? baristaCount : counterCount;
+            List<Deque<KitchenTicket>> stationLanes = new ArrayList<>(laneCount);
+            for (int i = 0; i < laneCount; i++) {
+                stationLanes.add(new ConcurrentLinkedDeque<>());
+            }
+            lanes.put(station, List.copyOf(stationLanes));
+            statistics.put(station, new StationStatistics());
+        }
+    }
+
+    public void dispatch(Long orderId, List<Product> products) {
+        if (products.isEmpty()) {
+            throw new IllegalArgumentException("An order without products cannot be dispatched to the kitchen.");
+        }
+        if (remainingTickets.putIfAbsent(orderId, new AtomicInteger(products.size())) != null) {
+            throw new IllegalStateException("The order has already been dispatched.");
+        }
+
+        long now = nanoClock.getAsLong();
+        for (Product product : products) {
+            KitchenTicket ticket = new KitchenTicket(ticketSequence.incrementAndGet(), orderId, product, now);
+            statistics.get(ticket.getStation()).queued.incrementAndGet();
+            shortestLane(ticket.getStation()).addLast(ticket);
+        }
+    }
+
+    public Optional<KitchenTicket> next(KitchenStation station, int lane) {
+        List<Deque<KitchenTicket>> stationLanes = lanes.get(station);
+        if (lane < 0 || lane >= stationLanes.size()) {
+            throw new IllegalArgumentException("Unknown lane " + lane + " for station " + station + ".");
+        }
+
+        KitchenTicket ticket = stationLanes.get(lane).pollFirst();
+        if (ticket == null) {
+            ticket = steal(stationLanes, lane);
+        }
+        if (ticket == null) {
+            return Optional.empty();
+        }
+
+        statistics.get(station).queued.decrementAndGet();
+        ticket.start(nanoClock.getAsLong());
+        startedTickets.put(ticket.getId(), ticket);
+        return Optional.of(ticket);
+    }
+
+    // 주문의 마지막 작업이 끝나면 그 주문 번호를 돌려준다.
+    public Optional<Long> finish(Long ticketId) {
+        Optional<Long> completedOrderId = reserveFinish(ticketId);
+        confirmFinish(ticketId);
+        return completedOrderId;
+    }
+
+    /*
+     * 작업 완료를 예약만 하고 큐 상태는 그대로 둔다. 주문의 마지막 작업이면 그 주문 번호를 돌려준다.
+     * 완료를 저장하는 트랜잭션이 커밋되면 confirmFinish, 롤백되면 cancelFinish를 불러 다시 끝낼 수 있게 한다.
+     */
+    public Optional<Long> reserveFinish(Long ticketId) {
+        KitchenTicket ticket = startedTickets.get(ticketId);
+        if (ticket == null || !ticket.finish()) {
+            throw new IllegalArgumentException("No started ticket: " + ticketId);
+        }
+        AtomicInteger remaining = remainingTickets.get(ticket.getOrderId());
+        if (remaining != null && remaining.decrementAndGet() == 0) {
+            return Optional.of(ticket.getOrderId());
+        }
+        return Optional.empty();
+    }
+
+    public void confirmFinish(Long ticketId) {
+        KitchenTicket ticket = startedTickets.remove(ticketId);
+        if (ticket == null) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        statistics.get(ticket.getStation()).record(now - ticket.getEnqueuedNanos(), now - ticket.getStartedNanos());
+        remainingTickets.computeIfPresent(ticket.getOrderId(), (orderId, remaining) -> remaining.get() == 0 ? null : remaining);
+    }
+
+    public void cancelFinish(Long ticketId) {
+        KitchenTicket ticket = startedTickets.get(ticketId);
+        if (ticket == null) {
+            return;
+        }
+        remainingTickets.get(ticket.getOrderId()).incrementAndGet();
+        ticket.cancelFinish();
+    }
+
+    public Duration estimateWaitTime(KitchenStation station) {
+        return estimateWaitTime(station, 0);
+    }
+
+    // 스테이션들은 동시에 준비하므로 주문의 대기시간은 가장 오래 걸리는 스테이션의 대기시간이다.
+    public Duration estimateWaitTime(List<Product> products) {
+        return products.stream()
+            .map(product -> KitchenStation.from(product.getProductType()))
+            .distinct()
+            .map(this::estimateWaitTime)
+            .max(Duration::compareTo)
+            .orElse(Duration.ZERO);
+    }
+
+    // 아직 배정하지 않은 주문의 대기시간으로, 이미 밀린 작업 뒤에 이 주문의 상품이 붙는다고 보고 계산한다.
+    public Duration estimateWaitTimeBeforeDispatch(List<Product> products) {
+        Map<KitchenStation, Long> itemCounts = products.stream()
+            .collect(Collectors.groupingBy(product -> KitchenStation.from(product.getProductType()),
+                () -> new EnumMap<>(KitchenStation.class), Collectors.counting()));
+        return itemCounts.entrySet().stream()
+            .map(entry -> estimateWaitTime(entry.getKey(), entry.getValue()))
+            .max(Duration::compareTo)
+            .orElse(Duration.ZERO);
+    }
+
+    public KitchenStationMetrics getMetrics(KitchenStation station) {
+        StationStatistics stationStatistics = statistics.get(station);
+        return KitchenStationMetrics.builder()
+            .station(station)
+            .queueLength(stationStatistics.queued.get())
+            .completedCount(stationStatistics.completed.sum())
+            .averageLatency(stationStatistics.averageLatency())
+            .maxLatency(Duration.ofNanos(stationStatistics.maxLatencyNanos.get()))
+            .estimatedWaitTime(estimateWaitTime(station))
+            .build();
+    }
+
+    private Duration estimateWaitTime(KitchenStation station, long additionalTickets) {
+        StationStatistics stationStatistics = statistics.get(station);
+        int laneCount = lanes.get(station).size();
+        long rounds = (stationStatistics.queued.get() + additionalTickets + laneCount - 1) / laneCount;
+        return stationStatistics.averagePreparation()
+            .orElse(station.getDefaultPreparationTime())
+            .multipliedBy(rounds);
+    }
+
+    private Deque<KitchenTicket> shortestLane(KitchenStation station) {
+        Deque<KitchenTicket> shortest = null;
+        int shortestSize = Integer.MAX_VALUE;
+        for (Deque<KitchenTicket> lane : lanes.get(station)) {
+            int size = lane.size();
+            if (size < shortestSize) {
+                shortest = lane;
+                shortestSize = size;
+            }
+        }
+        return shortest;
+    }
+
+    private KitchenTicket steal(List<Deque<KitchenTicket>> stationLanes, int thief) {
+        Deque<KitchenTicket> victim = null;
+        int victimSize = 0;
+        for (int i = 0; i < stationLanes.size(); i++) {
+            int size = stationLanes.get(i).size();
+            if (i != thief && size > victimSize) {
+                victim = stationLanes.get(i);
+                victimSize = size;
+            }
+        }
+        return victim == null ? null : victim.pollLast();
+    }
+
+    private static class StationStatistics {
+        private final AtomicInteger queued = new AtomicInteger();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder totalLatencyNanos = new LongAdder();
+        private final LongAdder totalPreparationNanos = new LongAdder();
+        private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+        private void record(long latencyNanos, long preparationNanos) {
+            completed.increment();
+            totalLatencyNanos.add(latencyNanos);
+            totalPreparationNanos.add(preparationNanos);
+            maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+        }
+
+        private Duration averageLatency() {
+            long count = completed.sum();
+            return count == 0 ? Duration.ZERO : Duration.ofNanos(totalLatencyNanos.sum() / count);
+        }
+
+        private Optional<Duration> averagePreparation() {
+            long count = completed.sum();
+            return count == 0 ? Optional.empty() : Optional.of(Duration.ofNanos(totalPreparationNanos.sum() / count));
+        }
+    }
+}
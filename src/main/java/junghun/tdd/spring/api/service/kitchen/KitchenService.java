@@ -0,0 +1,168 @@
+package junghun.tdd.spring.api.service.kitchen;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import junghun.tdd.spring.api.service.kitchen.response.KitchenOrderResponse;
+import junghun.tdd.spring.api.service.kitchen.response.KitchenTicketResponse;
+import junghun.tdd.spring.config.tenant.StoreContext;
+import junghun.tdd.spring.config.tenant.StoreGroups;
+import junghun.tdd.spring.domain.kitchen.KitchenStation;
+import junghun.tdd.spring.domain.order.Order;
+import junghun.tdd.spring.domain.order.OrderRepository;
+import junghun.tdd.spring.domain.order.OrderStatus;
+import junghun.tdd.spring.domain.product.Product;
+import junghun.tdd.spring.domain.product.ProductType;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+ * 매장마다 주방 디스패처를 하나씩 둔다.
+ * 큐는 메모리에만 있으므로 주방 상태는 DB에 맞춰 커밋된 뒤에만 바꾼다.
+ * 접수한 주문은 커밋된 뒤에 큐에 넣고, 끝난 작업은 완료 저장이 커밋된 뒤에 큐에서 뺀다(롤백되면 다시 끝낼 수 있다).
+ * 재시작하면 큐가 비므로 시작할 때 접수(RECEIVED) 상태 주문을 다시 큐에 넣는다.
+ * 상품별 진행 상황은 저장하지 않으므로, 재시작 전에 끝난 상품도 다시 만들어야 한다.
+ */
+@Slf4j
+@Service
+public class KitchenService {
+    private final Map<Long, KitchenDispatcher> dispatchers = new ConcurrentHashMap<>();
+    private final OrderRepository orderRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final StoreGroups storeGroups;
+    private final int baristaCount;
+    private final int counterCount;
+
+    public KitchenService(OrderRepository orderRepository,
+                          NamedParameterJdbcTemplate jdbcTemplate,
+                          StoreGroups storeGroups,
+                          @Value("${kitchen.barista-count:2}") int baristaCount,
+                          @Value("${kitchen.counter-count:1}") int counterCount) {
+        this.orderRepository = orderRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.storeGroups = storeGroups;
+        this.baristaCount = baristaCount;
+        this.counterCount = counterCount;
+    }
+
+    @Transactional
+    public KitchenOrderResponse receiveOrder(Long orderId) {
+        Order order = findOrder(orderId);
+        order.receive();
+
+        List<Product> products = order.getOrderProducts().stream()
+            .map(orderProduct -> Hibernate.unproxy(orderProduct.getProduct(), Product.class))
+            .toList();
+        if (products.isEmpty()) {
+            order.complete();
+            return toResponse(order, Duration.ZERO);
+        }
+
+        KitchenDispatcher dispatcher = currentDispatcher();
+        Duration estimatedWaitTime = dispatcher.estimateWaitTimeBeforeDispatch(products);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatcher.dispatch(orderId, products);
+            }
+        });
+        return toResponse(order, estimatedWaitTime);
+    }
+
+    public Optional<KitchenTicketResponse> next(KitchenStation station, int lane) {
+        return currentDispatcher().next(station, lane)
+            .map(KitchenTicketResponse::of);
+    }
+
+    @Transactional
+    public void finishTicket(Long ticketId) {
+        KitchenDispatcher dispatcher = currentDispatcher();
+        Optional<Long> completedOrderId = dispatcher.reserveFinish(ticketId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    dispatcher.confirmFinish(ticketId);
+                } else {
+                    dispatcher.cancelFinish(ticketId);
+                }
+            }
+        });
+        completedOrderId.ifPresent(orderId -> findOrder(orderId).complete());
+    }
+
+    public List<KitchenStationMetrics> getMetrics() {
+        KitchenDispatcher dispatcher = currentDispatcher();
+        return Arrays.stream(KitchenStation.values())
+            .map(dispatcher::getMetrics)
+            .toList();
+    }
+
+    // 모든 매장의 주문을 보므로 매장 필터가 걸리는 JPA 대신 스키마를 붙인 SQL로 읽는다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreReceivedOrders() {
+        int restoredCount = 0;
+        for (String schema : storeGroups.getSchemas()) {
+            Map<Long, List<ReceivedLine>> receivedOrders = jdbcTemplate.query(
+                    "select o.id as order_id, o.store_id, p.product_number, p.name, p.product_type "
+                        + "from " + schema + ".orders o "
+                        + "join " + schema + ".order_product op on op.order_id = o.id "
+                        + "join " + StoreGroups.DEFAULT_SCHEMA + ".product p on p.id = op.product_id "
+                        + "where o.order_status = :orderStatus order by o.id, op.id",
+                    Map.of("orderStatus", OrderStatus.RECEIVED.name()),
+                    (rs, rowNum) -> new ReceivedLine(rs.getLong("order_id"), rs.getLong("store_id"), Product.builder()
+                        .productNumber(rs.getString("product_number"))
+                        .name(rs.getString("name"))
+                        .productType(ProductType.valueOf(rs.getString("product_type")))
+                        .build()))
+                .stream()
+                .collect(Collectors.groupingBy(ReceivedLine::orderId, LinkedHashMap::new, Collectors.toList()));
+
+            for (List<ReceivedLine> lines : receivedOrders.values()) {
+                ReceivedLine first = lines.get(0);
+                dispatcherOf(first.storeId()).dispatch(first.orderId(), lines.stream().map(ReceivedLine::product).toList());
+                restoredCount++;
+            }
+        }
+        if (restoredCount > 0) {
+            log.info("Restored {} received orders to the kitchen queues.", restoredCount);
+        }
+    }
+
+    private KitchenDispatcher currentDispatcher() {
+        return dispatcherOf(StoreContext.getCurrentStoreId());
+    }
+
+    private KitchenDispatcher dispatcherOf(Long storeId) {
+        return dispatchers.computeIfAbsent(storeId, id -> new KitchenDispatcher(baristaCount, counterCount));
+    }
+
+    private Order findOrder(Long orderId) {
+        return orderRepository.findById(orderId)
+            .orElseThrow(() -> new IllegalArgumentException("Unknown order id: " + orderId));
+    }
+
+    private KitchenOrderResponse toResponse(Order order, Duration estimatedWaitTime) {
+        return KitchenOrderResponse.builder()
+            .orderId(order.getId())
+            .orderStatus(order.getOrderStatus())
+            .estimatedWaitTime(estimatedWaitTime)
+            .build();
+    }
+
+    private record ReceivedLine(Long orderId, Long storeId, Product product) {
+    }
+}
@@ -0,0 +1,31 @@
+package junghun.tdd.spring.api.service.kitchen;
+
+import java.time.Duration;
+import junghun.tdd.spring.domain.kitchen.KitchenStation;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class KitchenStationMetrics {
+    private KitchenStation station;
+
+    private int queueLength;
+
+    private long completedCount;
+
+    private Duration averageLatency;
+
+    private Duration maxLatency;
+
+    private Duration estimatedWaitTime;
+
+    @Builder
+    private KitchenStationMetrics(KitchenStation station, int queueLength, long completedCount, Duration averageLatency, Duration maxLatency, Duration estimatedWaitTime) {
+        this.station = station;
+        this.queueLength = queueLength;
+        this.completedCount = completedCount;
+        this.averageLatency = averageLatency;
+        this.maxLatency = maxLatency;
+        this.estimatedWaitTime = estimatedWaitTime;
+    }
+}
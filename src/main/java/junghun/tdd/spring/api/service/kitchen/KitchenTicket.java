@@ -0,0 +1,53 @@
+package junghun.tdd.spring.api.service.kitchen;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import junghun.tdd.spring.domain.kitchen.KitchenStation;
+import junghun.tdd.spring.domain.product.Product;
+import junghun.tdd.spring.domain.product.ProductType;
+import lombok.Getter;
+
+/*
+ * 주방 큐는 트랜잭션이 끝난 뒤에도 살아 있으므로 엔티티 대신 필요한 값만 복사해 둔다.
+ */
+@Getter
+public class KitchenTicket {
+    private final Long id;
+
+    private final Long orderId;
+
+    private final String productNumber;
+
+    private final String productName;
+
+    private final ProductType productType;
+
+    private final KitchenStation station;
+
+    private final long enqueuedNanos;
+
+    private volatile long startedNanos;
+
+    private final AtomicBoolean finished = new AtomicBoolean(false);
+
+    KitchenTicket(Long id, Long orderId, Product product, long enqueuedNanos) {
+        this.id = id;
+        this.orderId = orderId;
+        this.productNumber = product.getProductNumber();
+        this.productName = product.getName();
+        this.productType = product.getProductType();
+        this.station = KitchenStation.from(product.getProductType());
+        this.enqueuedNanos = enqueuedNanos;
+    }
+
+    void start(long nanos) {
+        this.startedNanos = nanos;
+    }
+
+    boolean finish() {
+        return finished.compareAndSet(false, true);
+    }
+
+    void cancelFinish() {
+        finished.set(false);
+    }
+}
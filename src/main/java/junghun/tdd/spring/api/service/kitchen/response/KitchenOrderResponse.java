@@ -0,0 +1,22 @@
+package junghun.tdd.spring.api.service.kitchen.response;
+
+import java.time.Duration;
+import junghun.tdd.spring.domain.order.OrderStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class KitchenOrderResponse {
+    private Long orderId;
+
+    private OrderStatus orderStatus;
+
+    private Duration estimatedWaitTime;
+
+    @Builder
+    private KitchenOrderResponse(Long orderId, OrderStatus orderStatus, Duration estimatedWaitTime) {
+        this.orderId = orderId;
+        this.orderStatus = orderStatus;
+        this.estimatedWaitTime = estimatedWaitTime;
+    }
+}
@@ -0,0 +1,43 @@
+package junghun.tdd.spring.api.service.kitchen.response;
+
+import junghun.tdd.spring.api.service.kitchen.KitchenTicket;
+import junghun.tdd.spring.domain.kitchen.KitchenStation;
+import junghun.tdd.spring.domain.product.ProductType;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class KitchenTicketResponse {
+    private Long id;
+
+    private Long orderId;
+
+    private String productNumber;
+
+    private String productName;
+
+    private ProductType productType;
+
+    private KitchenStation station;
+
+    @Builder
+    private KitchenTicketResponse(Long id, Long orderId, String productNumber, String productName, ProductType productType, KitchenStation station) {
+        this.id = id;
+        this.orderId = orderId;
+        this.productNumber = productNumber;
+        this.productName = productName;
+        this.productType = productType;
+        this.station = station;
+    }
+
+    public static KitchenTicketResponse of(KitchenTicket ticket) {
+        return KitchenTicketResponse.builder()
+            .id(ticket.getId())
+            .orderId(ticket.getOrderId())
+            .productNumber(ticket.getProductNumber())
+            .productName(ticket.getProductName())
+            .productType(ticket.getProductType())
+            .station(ticket.getStation())
+            .build();
+    }
+}
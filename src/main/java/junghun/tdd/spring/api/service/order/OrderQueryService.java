@@ -0,0 +1,36 @@
+package junghun.tdd.spring.api.service.order;
+
+import java.util.List;
+import junghun.tdd.spring.api.service.order.archive.OrderArchiveStore;
+import junghun.tdd.spring.api.service.order.response.OrderResponse;
+import junghun.tdd.spring.config.tenant.StoreContext;
+import junghun.tdd.spring.config.tenant.StoreGroups;
+import junghun.tdd.spring.domain.order.OrderLineSnapshot;
+import junghun.tdd.spring.domain.order.OrderLineSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 읽기 전용 트랜잭션이므로 replica가 설정되어 있으면 replica에서 조회한다.
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class OrderQueryService {
+    private final OrderLineSnapshotRepository orderLineSnapshotRepository;
+    private final OrderArchiveStore orderArchiveStore;
+    private final StoreGroups storeGroups;
+
+    public OrderResponse getOrder(Long orderId) {
+        List<OrderLineSnapshot> lines = orderLineSnapshotRepository.findAllByOrderIdOrderByLineNumber(orderId);
+        if (!lines.isEmpty()) {
+            return OrderResponse.fromSnapshots(lines);
+        }
+
+        // 라이브 테이블에 없으면 매장 그룹의 아카이브에서 찾는다.
+        Long storeId = StoreContext.getCurrentStoreId();
+        return orderArchiveStore.find(storeGroups.schemaOf(storeId), orderId)
+            .filter(order -> storeId.equals(order.getStoreId()))
+            .map(OrderResponse::of)
+            .orElseThrow(() -> new IllegalArgumentException("Unknown order id: " + orderId));
+    }
+}
@@ -1,21 +1,80 @@
 package junghun.tdd.spring.api.service.order;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import junghun.tdd.spring.api.controller.order.request.OrderCreateRequest;
 import junghun.tdd.spring.api.service.order.response.OrderResponse;
+import junghun.tdd.spring.config.tenant.StoreContext;
+import junghun.tdd.spring.domain.order.Order;
+import junghun.tdd.spring.domain.order.OrderLineSnapshot;
+import junghun.tdd.spring.domain.order.OrderLineSnapshotRepository;
+import junghun.tdd.spring.domain.order.OrderRepository;
+import junghun.tdd.spring.domain.product.Product;
 import junghun.tdd.spring.domain.product.ProductRepository;
+import junghun.tdd.spring.domain.stock.StockRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Transactional
 @RequiredArgsConstructor
 public class OrderService {
-//    private final OrderRepository orderRepository;
+    private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
+    private final OrderLineSnapshotRepository orderLineSnapshotRepository;
+    private final StockRepository stockRepository;
+
     public OrderResponse createOrder(OrderCreateRequest request) {
         List<String> productNumbers = request.getProductNumbers();
+        if (productNumbers == null || productNumbers.isEmpty()) {
+            throw new IllegalArgumentException("Product numbers must not be empty.");
+        }
+        List<Product> products = findProductsBy(productNumbers);
+        deductStockQuantities(productNumbers);
+
+        Order savedOrder = orderRepository.save(Order.create(products, LocalDateTime.now()));
+        // 조회 모델은 주문과 같은 트랜잭션에서 기록한다.
+        orderLineSnapshotRepository.saveAll(OrderLineSnapshot.listOf(savedOrder));
+
+        return OrderResponse.of(savedOrder);
+    }
+
+    // 같은 상품번호가 여러 번 들어올 수 있으므로, 조회한 상품을 요청 순서대로 다시 펼친다.
+    private List<Product> findProductsBy(List<String> productNumbers) {
+        Map<String, Product> productMap = productRepository.findAllByProductNumberIn(productNumbers).stream()
+            .collect(Collectors.toMap(Product::getProductNumber, Function.identity(), (first, second) -> first));
+
+        return productNumbers.stream()
+            .map(productNumber -> {
+                Product product = productMap.get(productNumber);
+                if (product == null) {
+                    throw new IllegalArgumentException("Unknown product number: " + productNumber);
+                }
+                return product;
+            })
+            .collect(Collectors.toList());
+    }
+
+    /*
+     * 재고는 주문이 들어온 매장(StoreContext)의 것만 차감한다.
+     * 수량 조건을 건 update로 차감하고, 상품번호 순서로 잠가 동시 주문끼리 교착되지 않게 한다.
+     * 재고 행이 없는 상품은 수량 제한 없이 판매한다.
+     */
+    private void deductStockQuantities(List<String> productNumbers) {
+        Long storeId = StoreContext.getCurrentStoreId();
+        Map<String, Long> productCountMap = productNumbers.stream()
+            .collect(Collectors.groupingBy(Function.identity(), TreeMap::new, Collectors.counting()));
 
-        //product
-        return null;
+        productCountMap.forEach((productNumber, count) -> {
+            int deducted = stockRepository.deductQuantity(storeId, productNumber, count.intValue());
+            if (deducted == 0 && stockRepository.existsByProductNumber(productNumber)) {
+                throw new IllegalArgumentException("Not enough stock for product number: " + productNumber);
+            }
+        });
     }
 }
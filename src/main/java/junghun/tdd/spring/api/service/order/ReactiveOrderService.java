@@ -0,0 +1,165 @@
+package junghun.tdd.spring.api.service.order;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import junghun.tdd.spring.api.controller.order.request.OrderCreateRequest;
+import junghun.tdd.spring.api.service.order.response.OrderResponse;
+import junghun.tdd.spring.api.service.order.response.OrderResultResponse;
+import junghun.tdd.spring.api.service.product.ReactiveProductService;
+import junghun.tdd.spring.api.service.product.response.ProductResponse;
+import junghun.tdd.spring.config.tenant.StoreGroups;
+import junghun.tdd.spring.domain.order.OrderStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Profile("reactive")
+@Service
+public class ReactiveOrderService {
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final ReactiveProductService productService;
+    private final StoreGroups storeGroups;
+    private final int orderConcurrency;
+
+    public ReactiveOrderService(DatabaseClient databaseClient,
+                                TransactionalOperator transactionalOperator,
+                                ReactiveProductService productService,
+                                StoreGroups storeGroups,
+                                @Value("${kiosk.reactive.order-concurrency:8}") int orderConcurrency) {
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = transactionalOperator;
+        this.productService = productService;
+        this.storeGroups = storeGroups;
+        this.orderConcurrency = orderConcurrency;
+    }
+
+    public Mono<OrderResponse> createOrder(OrderCreateRequest request, Long storeId) {
+        List<String> productNumbers = request.getProductNumbers();
+        if (productNumbers == null || productNumbers.isEmpty()) {
+            return Mono.error(new IllegalArgumentException("Product numbers must not be empty."));
+        }
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+        // R2DBC 커넥션은 StoreGroupDataSource를 거치지 않으므로 매장 그룹 스키마를 SQL에 직접 붙인다.
+        String schema = storeGroups.schemaOf(storeId);
+
+        return productService.getProductsByNumbers(productNumbers)
+            .collectMap(ProductResponse::getProductNumber, Function.identity())
+            .map(productMap -> toOrderedProducts(productNumbers, productMap))
+            .flatMap(products -> deductStockQuantities(schema, storeId, productNumbers)
+                .then(saveOrder(schema, storeId, products, registeredDateTime)))
+            .as(transactionalOperator::transactional);
+    }
+
+    // flatMap의 동시성만큼만 상위 스트림에 요청하므로, DB가 밀리면 요청 바디를 읽는 속도도 함께 늦춰진다.
+    // 주문 하나가 실패해도 스트림 전체가 끊기지 않도록, 실패는 그 요청의 결과로 바꿔 내보낸다.
+    public Flux<OrderResultResponse> createOrders(Flux<OrderCreateRequest> requests, Long storeId) {
+        return requests.index()
+            .flatMap(indexed -> createOrder(indexed.getT2(), storeId)
+                .map(order -> OrderResultResponse.success(indexed.getT1(), order))
+                .onErrorResume(e -> Mono.just(OrderResultResponse.failure(indexed.getT1(), e.getMessage()))),
+                orderConcurrency);
+    }
+
+    private List<ProductResponse> toOrderedProducts(List<String> productNumbers, Map<String, ProductResponse> productMap) {
+        return productNumbers.stream()
+            .map(productNumber -> {
+                ProductResponse product = productMap.get(productNumber);
+                if (product == null) {
+                    throw new IllegalArgumentException("Unknown product number: " + productNumber);
+                }
+                return product;
+            })
+            .collect(Collectors.toList());
+    }
+
+    // OrderService와 같은 규칙: 수량 조건을 건 update로 상품번호 순서대로 차감하고, 재고 행이 없는 상품은 제한하지 않는다.
+    private Mono<Void> deductStockQuantities(String schema, Long storeId, List<String> productNumbers) {
+        Map<String, Long> productCountMap = productNumbers.stream()
+            .collect(Collectors.groupingBy(Function.identity(), TreeMap::new, Collectors.counting()));
+
+        return Flux.fromIterable(productCountMap.entrySet())
+            .concatMap(entry -> databaseClient.sql("update " + schema + ".stock set quantity = quantity - :quantity "
+                    + "where store_id = :storeId and product_number = :productNumber and quantity >= :quantity")
+                .bind("quantity", entry.getValue().intValue())
+                .bind("storeId", storeId)
+                .bind("productNumber", entry.getKey())
+                .fetch()
+                .rowsUpdated()
+                .filter(deducted -> deducted == 0)
+                .flatMap(notDeducted -> existsStock(schema, storeId, entry.getKey()))
+                .filter(Boolean::booleanValue)
+                .flatMap(stocked -> Mono.<Void>error(new IllegalArgumentException("Not enough stock for product number: " + entry.getKey()))))
+            .then();
+    }
+
+    private Mono<Boolean> existsStock(String schema, Long storeId, String productNumber) {
+        return databaseClient.sql("select count(*) as stock_count from " + schema + ".stock where store_id = :storeId and product_number = :productNumber")
+            .bind("storeId", storeId)
+            .bind("productNumber", productNumber)
+            .map(row -> row.get("stock_count", Long.class))
+            .one()
+            .map(count -> count > 0);
+    }
+
+    private Mono<OrderResponse> saveOrder(String schema, Long storeId, List<ProductResponse> products, LocalDateTime registeredDateTime) {
+        int totalPrice = products.stream()
+            .mapToInt(ProductResponse::getPrice)
+            .sum();
+
+        return databaseClient.sql("insert into " + schema + ".orders (store_id, order_status, total_price, registered_date_time, create_date_time) values (:storeId, :orderStatus, :totalPrice, :registeredDateTime, :createDateTime)")
+            .bind("storeId", storeId)
+            .bind("orderStatus", OrderStatus.INIT.name())
+            .bind("totalPrice", totalPrice)
+            .bind("registeredDateTime", registeredDateTime)
+            .bind("createDateTime", LocalDateTime.now())
+            .filter(statement -> statement.returnGeneratedValues("id"))
+            .map(row -> row.get("id", Long.class))
+            .one()
+            .flatMap(orderId -> Flux.range(0, products.size())
+                .concatMap(lineNumber -> saveOrderProduct(schema, storeId, orderId, products.get(lineNumber).getId())
+                    .then(saveOrderLineSnapshot(schema, storeId, orderId, totalPrice, registeredDateTime, lineNumber, products.get(lineNumber))))
+                .then(Mono.just(OrderResponse.builder()
+                    .id(orderId)
+                    .totalPrice(totalPrice)
+                    .registeredDateTime(registeredDateTime)
+                    .products(products)
+                    .build())));
+    }
+
+    private Mono<Long> saveOrderProduct(String schema, Long storeId, Long orderId, Long productId) {
+        return databaseClient.sql("insert into " + schema + ".order_product (store_id, order_id, product_id, create_date_time) values (:storeId, :orderId, :productId, :createDateTime)")
+            .bind("storeId", storeId)
+            .bind("orderId", orderId)
+            .bind("productId", productId)
+            .bind("createDateTime", LocalDateTime.now())
+            .fetch()
+            .rowsUpdated();
+    }
+
+    private Mono<Long> saveOrderLineSnapshot(String schema, Long storeId, Long orderId, int totalPrice, LocalDateTime registeredDateTime, int lineNumber, ProductResponse product) {
+        return databaseClient.sql("insert into " + schema + ".order_line_snapshot (store_id, order_id, order_total_price, registered_date_time, line_number, product_id, product_number, product_type, name, price, create_date_time) "
+                + "values (:storeId, :orderId, :orderTotalPrice, :registeredDateTime, :lineNumber, :productId, :productNumber, :productType, :name, :price, :createDateTime)")
+            .bind("storeId", storeId)
+            .bind("orderId", orderId)
+            .bind("orderTotalPrice", totalPrice)
+            .bind("registeredDateTime", registeredDateTime)
+            .bind("lineNumber", lineNumber)
+            .bind("productId", product.getId())
+            .bind("productNumber", product.getProductNumber())
+            .bind("productType", product.getProductType().name())
+            .bind("name", product.getName())
+            .bind("price", product.getPrice())
+            .bind("createDateTime", LocalDateTime.now())
+            .fetch()
+            .rowsUpdated();
+    }
+}
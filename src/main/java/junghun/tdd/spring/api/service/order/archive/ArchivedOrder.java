@@ -0,0 +1,35 @@
+package junghun.tdd.spring.api.service.order.archive;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import junghun.tdd.spring.domain.order.OrderStatus;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedOrder {
+    private Long id;
+
+    private Long storeId;
+
+    private OrderStatus orderStatus;
+
+    private int totalPrice;
+
+    private LocalDateTime registeredDateTime;
+
+    private List<ArchivedOrderLine> lines;
+
+    @Builder
+    private ArchivedOrder(Long id, Long storeId, OrderStatus orderStatus, int totalPrice, LocalDateTime registeredDateTime, List<ArchivedOrderLine> lines) {
+        this.id = id;
+        this.storeId = storeId;
+        this.orderStatus = orderStatus;
+        this.totalPrice = totalPrice;
+        this.registeredDateTime = registeredDateTime;
+        this.lines = lines;
+    }
+}
@@ -0,0 +1,33 @@
+package junghun.tdd.spring.api.service.order.archive;
+
+import junghun.tdd.spring.domain.product.ProductType;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedOrderLine {
+    private int lineNumber;
+
+    private Long productId;
+
+    private String productNumber;
+
+    private ProductType productType;
+
+    private String name;
+
+    private int price;
+
+    @Builder
+    private ArchivedOrderLine(int lineNumber, Long productId, String productNumber, ProductType productType, String name, int price) {
+        this.lineNumber = lineNumber;
+        this.productId = productId;
+        this.productNumber = productNumber;
+        this.productType = productType;
+        this.name = name;
+        this.price = price;
+    }
+}
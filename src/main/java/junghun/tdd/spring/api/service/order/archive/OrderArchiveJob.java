@@ -0,0 +1,17 @@
+package junghun.tdd.spring.api.service.order.archive;
+
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class OrderArchiveJob {
+    private final OrderArchiveService orderArchiveService;
+
+    @Scheduled(initialDelayString = "${kiosk.archive.initial-delay:PT1H}", fixedDelayString = "${kiosk.archive.fixed-delay:PT1H}")
+    public void archiveClosedOrders() {
+        orderArchiveService.archive(LocalDateTime.now());
+    }
+}
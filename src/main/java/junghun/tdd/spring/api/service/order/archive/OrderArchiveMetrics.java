@@ -0,0 +1,39 @@
+package junghun.tdd.spring.api.service.order.archive;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class OrderArchiveMetrics {
+    private LocalDateTime lastRunDateTime;
+
+    private long lastRunArchivedCount;
+
+    private Duration lastRunDuration;
+
+    private double lastRunThroughputPerSecond;
+
+    private long totalArchivedCount;
+
+    // 마지막 실행을 시작할 때의 lag
+    private Duration lagBeforeRun;
+
+    // 보관 기간이 지났는데 아직 라이브 테이블에 남아 있는 가장 오래된 종료 주문이 얼마나 밀려 있는지
+    private Duration lag;
+
+    private int segmentCount;
+
+    @Builder(toBuilder = true)
+    private OrderArchiveMetrics(LocalDateTime lastRunDateTime, long lastRunArchivedCount, Duration lastRunDuration, double lastRunThroughputPerSecond, long totalArchivedCount, Duration lagBeforeRun, Duration lag, int segmentCount) {
+        this.lastRunDateTime = lastRunDateTime;
+        this.lastRunArchivedCount = lastRunArchivedCount;
+        this.lastRunDuration = lastRunDuration;
+        this.lastRunThroughputPerSecond = lastRunThroughputPerSecond;
+        this.totalArchivedCount = totalArchivedCount;
+        this.lagBeforeRun = lagBeforeRun;
+        this.lag = lag;
+        this.segmentCount = segmentCount;
+    }
+}
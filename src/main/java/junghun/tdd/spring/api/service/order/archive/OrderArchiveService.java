@@ -0,0 +1,219 @@
+package junghun.tdd.spring.api.service.order.archive;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import junghun.tdd.spring.api.service.order.archive.OrderArchiveStore.StagedSegment;
+import junghun.tdd.spring.config.tenant.StoreGroups;
+import junghun.tdd.spring.domain.order.OrderStatus;
+import junghun.tdd.spring.domain.product.ProductType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * 보관 기간이 지난 종료 주문(완료/취소)을 아카이브로 옮기고 라이브 테이블에서 지운다.
+ * 매장 그룹 스키마마다 id 기준 keyset으로 batchSize개씩 끊어 읽고, 배치마다 별도 트랜잭션으로 처리해 잠금을 짧게 유지한다.
+ * 모든 매장의 주문을 대상으로 하므로 매장 필터가 걸리는 JPA 대신 스키마를 붙인 SQL을 직접 사용한다.
+ */
+@Slf4j
+@Service
+public class OrderArchiveService {
+    private static final List<String> ARCHIVE_STATUSES = OrderStatus.forArchive().stream().map(Enum::name).toList();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderArchiveStore orderArchiveStore;
+    private final StoreGroups storeGroups;
+    private final Duration retention;
+    private final int batchSize;
+
+    private volatile OrderArchiveMetrics metrics;
+    private long totalArchivedCount;
+
+    public OrderArchiveService(NamedParameterJdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               OrderArchiveStore orderArchiveStore,
+                               StoreGroups storeGroups,
+                               @Value("${kiosk.archive.retention:P7D}") Duration retention,
+                               @Value("${kiosk.archive.batch-size:500}") int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Archive batch size must be greater than zero.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.orderArchiveStore = orderArchiveStore;
+        this.storeGroups = storeGroups;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.metrics = OrderArchiveMetrics.builder()
+            .lastRunDuration(Duration.ZERO)
+            .lagBeforeRun(Duration.ZERO)
+            .lag(Duration.ZERO)
+            .segmentCount(orderArchiveStore.getSegmentCount())
+            .build();
+    }
+
+    public synchronized OrderArchiveMetrics archive(LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(retention);
+        Duration lagBeforeRun = calculateLag(cutoff);
+        long startedNanos = System.nanoTime();
+        long archivedCount = 0;
+
+        for (String schema : storeGroups.getSchemas()) {
+            // 지난 실행에서 커밋 후 게시하지 못한 세그먼트가 있으면 이번 배치보다 먼저 게시한다.
+            orderArchiveStore.recoverStaged(schema);
+            archivedCount += archive(schema, cutoff);
+            orderArchiveStore.compact(schema);
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedNanos);
+        totalArchivedCount += archivedCount;
+        metrics = OrderArchiveMetrics.builder()
+            .lastRunDateTime(now)
+            .lastRunArchivedCount(archivedCount)
+            .lastRunDuration(elapsed)
+            .lastRunThroughputPerSecond(elapsed.isZero() ? 0 : archivedCount * 1_000_000_000.0 / elapsed.toNanos())
+            .totalArchivedCount(totalArchivedCount)
+            .lagBeforeRun(lagBeforeRun)
+            .lag(calculateLag(cutoff))
+            .segmentCount(orderArchiveStore.getSegmentCount())
+            .build();
+        log.info("Archived {} orders older than {} in {} ms (lag before run: {})", archivedCount, cutoff, elapsed.toMillis(), lagBeforeRun);
+        return metrics;
+    }
+
+    // 마지막 실행 결과에, 실행 사이에도 늘어나는 현재 밀림과 세그먼트 수를 더해 돌려준다.
+    public OrderArchiveMetrics getMetrics(LocalDateTime now) {
+        return metrics.toBuilder()
+            .lag(calculateLag(now.minus(retention)))
+            .segmentCount(orderArchiveStore.getSegmentCount())
+            .build();
+    }
+
+    private long archive(String schema, LocalDateTime cutoff) {
+        long archivedCount = 0;
+        long lastId = 0;
+
+        while (true) {
+            long cursor = lastId;
+            List<ArchivedOrder> batch = transactionTemplate.execute(status -> archiveBatch(schema, cursor, cutoff));
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            archivedCount += batch.size();
+            lastId = batch.get(batch.size() - 1).getId();
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        return archivedCount;
+    }
+
+    private List<ArchivedOrder> archiveBatch(String schema, long afterId, LocalDateTime cutoff) {
+        MapSqlParameterSource batchParams = new MapSqlParameterSource()
+            .addValue("afterId", afterId)
+            .addValue("statuses", ARCHIVE_STATUSES)
+            .addValue("cutoff", cutoff)
+            .addValue("batchSize", batchSize);
+        List<OrderRow> orders = jdbcTemplate.query(
+            "select id, store_id, order_status, total_price, registered_date_time from " + schema + ".orders "
+                + "where id > :afterId and order_status in (:statuses) and registered_date_time < :cutoff "
+                + "order by id limit :batchSize",
+            batchParams, OrderArchiveService::toOrderRow);
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> orderIds = orders.stream().map(OrderRow::id).toList();
+        MapSqlParameterSource idParams = new MapSqlParameterSource("orderIds", orderIds);
+        Map<Long, List<ArchivedOrderLine>> linesByOrderId = jdbcTemplate.query(
+            "select order_id, line_number, product_id, product_number, product_type, name, price from " + schema + ".order_line_snapshot "
+                + "where order_id in (:orderIds) order by order_id, line_number",
+            idParams, (rs, rowNum) -> Map.entry(rs.getLong("order_id"), toArchivedOrderLine(rs)))
+            .stream()
+            .collect(Collectors.groupingBy(Map.Entry::getKey, Collectors.mapping(Map.Entry::getValue, Collectors.toList())));
+
+        List<ArchivedOrder> archivedOrders = orders.stream()
+            .map(order -> order.toArchivedOrder(linesByOrderId.getOrDefault(order.id(), List.of())))
+            .toList();
+
+        /*
+         * 세그먼트는 스테이징 이름으로 먼저 써 두고, 행 삭제가 커밋된 뒤에만 게시한다. 롤백되면 스테이징 파일을 지운다.
+         * 게시가 실패해도 afterCompletion의 예외는 트랜잭션에 영향을 주지 않으며, 남은 스테이징 파일은 다음 시작 때 게시된다.
+         */
+        StagedSegment staged = orderArchiveStore.stage(schema, archivedOrders);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    orderArchiveStore.publish(staged);
+                } else {
+                    orderArchiveStore.discard(staged);
+                }
+            }
+        });
+        jdbcTemplate.update("delete from " + schema + ".order_line_snapshot where order_id in (:orderIds)", idParams);
+        jdbcTemplate.update("delete from " + schema + ".order_product where order_id in (:orderIds)", idParams);
+        jdbcTemplate.update("delete from " + schema + ".orders where id in (:orderIds)", idParams);
+        return archivedOrders;
+    }
+
+    private Duration calculateLag(LocalDateTime cutoff) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("statuses", ARCHIVE_STATUSES)
+            .addValue("cutoff", cutoff);
+        LocalDateTime oldest = null;
+        for (String schema : storeGroups.getSchemas()) {
+            LocalDateTime schemaOldest = jdbcTemplate.queryForObject(
+                "select min(registered_date_time) from " + schema + ".orders where order_status in (:statuses) and registered_date_time < :cutoff",
+                params, LocalDateTime.class);
+            if (schemaOldest != null && (oldest == null || schemaOldest.isBefore(oldest))) {
+                oldest = schemaOldest;
+            }
+        }
+        return oldest == null ? Duration.ZERO : Duration.between(oldest, cutoff);
+    }
+
+    private static OrderRow toOrderRow(ResultSet rs, int rowNum) throws SQLException {
+        return new OrderRow(
+            rs.getLong("id"),
+            rs.getObject("store_id", Long.class),
+            OrderStatus.valueOf(rs.getString("order_status")),
+            rs.getInt("total_price"),
+            rs.getObject("registered_date_time", LocalDateTime.class));
+    }
+
+    private static ArchivedOrderLine toArchivedOrderLine(ResultSet rs) throws SQLException {
+        return ArchivedOrderLine.builder()
+            .lineNumber(rs.getInt("line_number"))
+            .productId(rs.getObject("product_id", Long.class))
+            .productNumber(rs.getString("product_number"))
+            .productType(ProductType.valueOf(rs.getString("product_type")))
+            .name(rs.getString("name"))
+            .price(rs.getInt("price"))
+            .build();
+    }
+
+    private record OrderRow(Long id, Long storeId, OrderStatus orderStatus, int totalPrice, LocalDateTime registeredDateTime) {
+        private ArchivedOrder toArchivedOrder(List<ArchivedOrderLine> lines) {
+            return ArchivedOrder.builder()
+                .id(id)
+                .storeId(storeId)
+                .orderStatus(orderStatus)
+                .totalPrice(totalPrice)
+                .registeredDateTime(registeredDateTime)
+                .lines(lines)
+                .build();
+        }
+    }
+}
@@ -0,0 +1,450 @@
+package junghun.tdd.spring.api.service.order.archive;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * 아카이브된 주문을 매장 그룹 스키마별 디렉터리에 세그먼트 파일(orders-{첫 id}-{마지막 id}.seg)로 저장한다.
+ * 세그먼트는 주문 block-size개씩 따로 gzip으로 압축한 블록들과, 블록마다 (첫 id, 마지막 id, 위치, 길이)를 담은 꼬리 인덱스로 이루어진다.
+ * 스키마마다 세그먼트를 첫 id 기준 NavigableMap에 두고 id 범위가 겹치지 않게 유지하므로,
+ * 주문 하나를 찾을 때는 floorEntry로 세그먼트를 고르고 그 안에서 블록 하나만 읽어 압축을 푼다.
+ */
+@Slf4j
+@Component
+public class OrderArchiveStore {
+    private static final Pattern SEGMENT_NAME = Pattern.compile("orders-\\d{20}-\\d{20}\\.seg");
+    private static final String STAGED_SUFFIX = ".staged";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int FOOTER_MAGIC = 0x4F415347;
+    private static final int FOOTER_BYTES = Integer.BYTES + Long.BYTES + Integer.BYTES;
+    private static final int INDEX_ENTRY_BYTES = Long.BYTES * 3 + Integer.BYTES * 2;
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final int blockSize;
+    private final int compactionTargetSize;
+    private final Map<String, NavigableMap<Long, Segment>> segmentsBySchema = new ConcurrentHashMap<>();
+
+    public OrderArchiveStore(@Value("${kiosk.archive.directory:order-archive}") String directory,
+                             @Value("${kiosk.archive.block-size:64}") int blockSize,
+                             @Value("${kiosk.archive.compaction-target-size:10000}") int compactionTargetSize,
+                             ObjectMapper objectMapper) {
+        if (blockSize <= 0 || compactionTargetSize <= 0) {
+            throw new IllegalArgumentException("Archive block size and compaction target size must be greater than zero.");
+        }
+        this.directory = Path.of(directory);
+        this.objectMapper = objectMapper;
+        this.blockSize = blockSize;
+        this.compactionTargetSize = compactionTargetSize;
+        loadSegments();
+    }
+
+    // 트랜잭션 안에서 스테이징 이름으로 써 두고, 커밋되면 publish, 롤백되면 discard 한다. orders는 id 오름차순이어야 한다.
+    public StagedSegment stage(String schema, List<ArchivedOrder> orders) {
+        if (orders.isEmpty()) {
+            throw new IllegalArgumentException("Cannot stage an empty archive segment.");
+        }
+        List<Map.Entry<Long, String>> records = orders.stream()
+            .map(order -> Map.entry(order.getId(), toJson(order)))
+            .toList();
+        Path target = segmentPath(schema, records.get(0).getKey(), records.get(records.size() - 1).getKey());
+        return new StagedSegment(schema, writeSegment(target.resolveSibling(target.getFileName() + STAGED_SUFFIX), records));
+    }
+
+    public synchronized void publish(StagedSegment staged) {
+        Segment segment = staged.segment();
+        List<Segment> overlapping = findOverlapping(staged.schema(), segment);
+        if (overlapping.isEmpty()) {
+            Path target = segmentPath(staged.schema(), segment.firstId(), segment.lastId());
+            move(segment.path(), target);
+            segmentsOf(staged.schema()).put(segment.firstId(), segment.movedTo(target));
+            return;
+        }
+
+        // 늦게 종료된 주문처럼 이미 아카이브된 id 범위에 들어오면, 겹치는 세그먼트와 합쳐 범위가 겹치지 않게 유지한다.
+        List<Segment> sources = new ArrayList<>(overlapping);
+        sources.add(segment);
+        merge(staged.schema(), sources);
+    }
+
+    public void discard(StagedSegment staged) {
+        deleteIfExists(staged.segment().path());
+    }
+
+    // 커밋 후 게시가 실패해 남은 스테이징 파일을 게시한다. 아카이브 중인 배치가 없을 때 불러야 한다.
+    public synchronized void recoverStaged(String schema) {
+        Path schemaDirectory = directory.resolve(schema);
+        if (!Files.isDirectory(schemaDirectory)) {
+            return;
+        }
+        try {
+            List<Path> stagedFiles = new ArrayList<>();
+            try (DirectoryStream<Path> paths = Files.newDirectoryStream(schemaDirectory, "*" + STAGED_SUFFIX)) {
+                paths.forEach(stagedFiles::add);
+            }
+            publishStaged(schema, stagedFiles);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to recover staged archive segments of " + schema, e);
+        }
+    }
+
+    // 이웃한 작은 세그먼트들을 compaction-target-size개 이하로 묶어 하나로 다시 쓴다.
+    public synchronized void compact(String schema) {
+        List<Segment> run = new ArrayList<>();
+        int runOrderCount = 0;
+        for (Segment segment : List.copyOf(segmentsOf(schema).values())) {
+            if (runOrderCount + segment.orderCount() > compactionTargetSize) {
+                mergeIfMany(schema, run);
+                run = new ArrayList<>();
+                runOrderCount = 0;
+            }
+            run.add(segment);
+            runOrderCount += segment.orderCount();
+        }
+        mergeIfMany(schema, run);
+    }
+
+    public Optional<ArchivedOrder> find(String schema, Long orderId) {
+        try {
+            return findIn(schema, orderId);
+        } catch (NoSuchFileException e) {
+            // 찾는 사이 컴팩션이 세그먼트를 바꿨다면, 바뀐 인덱스로 한 번 더 찾는다.
+            try {
+                return findIn(schema, orderId);
+            } catch (IOException retryException) {
+                throw new UncheckedIOException("Failed to read order archive " + schema, retryException);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read order archive " + schema, e);
+        }
+    }
+
+    public int getSegmentCount() {
+        return segmentsBySchema.values().stream()
+            .mapToInt(Map::size)
+            .sum();
+    }
+
+    private Optional<ArchivedOrder> findIn(String schema, Long orderId) throws IOException {
+        Map.Entry<Long, Segment> entry = segmentsOf(schema).floorEntry(orderId);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        Segment segment = entry.getValue();
+        Optional<Block> block = segment.blockOf(orderId);
+        if (block.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String prefix = orderId + "\t";
+        for (String line : readLines(segment.path(), block.get())) {
+            if (line.startsWith(prefix)) {
+                return Optional.of(parse(line.substring(prefix.length())));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private List<Segment> findOverlapping(String schema, Segment segment) {
+        NavigableMap<Long, Segment> segments = segmentsOf(schema);
+        List<Segment> overlapping = new ArrayList<>();
+        Map.Entry<Long, Segment> floor = segments.floorEntry(segment.firstId());
+        if (floor != null && floor.getValue().lastId() >= segment.firstId()) {
+            overlapping.add(floor.getValue());
+        }
+        overlapping.addAll(segments.subMap(segment.firstId(), false, segment.lastId(), true).values());
+        return overlapping;
+    }
+
+    private void mergeIfMany(String schema, List<Segment> run) {
+        if (run.size() > 1) {
+            merge(schema, run);
+        }
+    }
+
+    // 같은 id가 여러 원본에 있으면 뒤에 온 원본의 것을 남긴다.
+    private void merge(String schema, List<Segment> sources) {
+        NavigableMap<Long, String> records = new TreeMap<>();
+        for (Segment source : sources) {
+            for (Block block : source.blocks()) {
+                for (String line : readLinesUnchecked(source.path(), block)) {
+                    int tab = line.indexOf('\t');
+                    records.put(Long.parseLong(line.substring(0, tab)), line.substring(tab + 1));
+                }
+            }
+        }
+
+        Path target = segmentPath(schema, records.firstKey(), records.lastKey());
+        Path temp = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+        Segment merged = writeSegment(temp, List.copyOf(records.entrySet())).movedTo(target);
+        move(temp, target);
+
+        // 새 세그먼트를 먼저 보이게 한 뒤 원본을 지운다. 도중에 멈추면 다음 시작 때 겹치는 세그먼트를 다시 합친다.
+        NavigableMap<Long, Segment> segments = segmentsOf(schema);
+        segments.put(merged.firstId(), merged);
+        for (Segment source : sources) {
+            if (source.firstId() != merged.firstId()) {
+                segments.remove(source.firstId(), source);
+            }
+        }
+        for (Segment source : sources) {
+            if (!source.path().equals(target)) {
+                deleteIfExists(source.path());
+            }
+        }
+    }
+
+    private Segment writeSegment(Path file, List<Map.Entry<Long, String>> records) {
+        List<Block> blocks = new ArrayList<>();
+        try {
+            Files.createDirectories(file.getParent());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+                long offset = 0;
+                for (int from = 0; from < records.size(); from += blockSize) {
+                    List<Map.Entry<Long, String>> blockRecords = records.subList(from, Math.min(from + blockSize, records.size()));
+                    byte[] compressed = compress(blockRecords);
+                    out.write(compressed);
+                    blocks.add(new Block(blockRecords.get(0).getKey(), blockRecords.get(blockRecords.size() - 1).getKey(), offset, compressed.length, blockRecords.size()));
+                    offset += compressed.length;
+                }
+                for (Block block : blocks) {
+                    out.writeLong(block.firstId());
+                    out.writeLong(block.lastId());
+                    out.writeLong(block.offset());
+                    out.writeInt(block.length());
+                    out.writeInt(block.orderCount());
+                }
+                out.writeInt(blocks.size());
+                out.writeLong(offset);
+                out.writeInt(FOOTER_MAGIC);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write archive segment " + file, e);
+        }
+        return new Segment(records.get(0).getKey(), records.get(records.size() - 1).getKey(), records.size(), file, List.copyOf(blocks));
+    }
+
+    private Segment readSegment(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer footer = read(channel, channel.size() - FOOTER_BYTES, FOOTER_BYTES);
+            int blockCount = footer.getInt();
+            long indexOffset = footer.getLong();
+            if (footer.getInt() != FOOTER_MAGIC || blockCount <= 0) {
+                throw new IOException("Corrupted archive segment " + file);
+            }
+
+            ByteBuffer index = read(channel, indexOffset, blockCount * INDEX_ENTRY_BYTES);
+            List<Block> blocks = new ArrayList<>(blockCount);
+            int orderCount = 0;
+            for (int i = 0; i < blockCount; i++) {
+                Block block = new Block(index.getLong(), index.getLong(), index.getLong(), index.getInt(), index.getInt());
+                blocks.add(block);
+                orderCount += block.orderCount();
+            }
+            return new Segment(blocks.get(0).firstId(), blocks.get(blockCount - 1).lastId(), orderCount, file, List.copyOf(blocks));
+        }
+    }
+
+    private List<String> readLines(Path file, Block block) throws IOException {
+        ByteBuffer compressed;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            compressed = read(channel, block.offset(), block.length());
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new ByteArrayInputStream(compressed.array())), StandardCharsets.UTF_8))) {
+            return reader.lines().toList();
+        }
+    }
+
+    private List<String> readLinesUnchecked(Path file, Block block) {
+        try {
+            return readLines(file, block);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read archive segment " + file, e);
+        }
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        if (position < 0) {
+            throw new EOFException("Archive segment is too short.");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of archive segment.");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static byte[] compress(List<Map.Entry<Long, String>> records) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(bytes), StandardCharsets.UTF_8)) {
+            for (Map.Entry<Long, String> record : records) {
+                writer.write(record.getKey() + "\t" + record.getValue() + "\n");
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private String toJson(ArchivedOrder order) {
+        try {
+            return objectMapper.writeValueAsString(order);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize archived order " + order.getId(), e);
+        }
+    }
+
+    private ArchivedOrder parse(String json) {
+        try {
+            return objectMapper.readValue(json, ArchivedOrder.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupted archive record.", e);
+        }
+    }
+
+    private void loadSegments() {
+        try {
+            Files.createDirectories(directory);
+            try (DirectoryStream<Path> schemaDirectories = Files.newDirectoryStream(directory, Files::isDirectory)) {
+                for (Path schemaDirectory : schemaDirectories) {
+                    loadSegments(schemaDirectory.getFileName().toString(), schemaDirectory);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open order archive " + directory, e);
+        }
+    }
+
+    private void loadSegments(String schema, Path schemaDirectory) throws IOException {
+        List<Path> stagedFiles = new ArrayList<>();
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(schemaDirectory)) {
+            for (Path path : paths) {
+                String fileName = path.getFileName().toString();
+                if (fileName.endsWith(TEMP_SUFFIX)) {
+                    Files.deleteIfExists(path);
+                } else if (fileName.endsWith(STAGED_SUFFIX)) {
+                    stagedFiles.add(path);
+                } else if (SEGMENT_NAME.matcher(fileName).matches()) {
+                    addLoaded(schema, readSegment(path));
+                }
+            }
+        }
+
+        publishStaged(schema, stagedFiles);
+    }
+
+    /*
+     * 남은 스테이징 파일은 커밋 후 게시하지 못한 것일 수 있으므로 게시한다.
+     * 롤백된 배치였다면 같은 주문이 라이브 테이블에도 남아 있고, 다음 아카이브에서 같은 id로 합쳐진다.
+     * 끝까지 쓰이지 못한 파일은 행을 지우기 전에 멈춘 배치이므로 버린다.
+     */
+    private void publishStaged(String schema, List<Path> stagedFiles) throws IOException {
+        for (Path stagedFile : stagedFiles) {
+            try {
+                publish(new StagedSegment(schema, readSegment(stagedFile)));
+            } catch (IOException e) {
+                log.warn("Discarding incomplete archive segment {}", stagedFile, e);
+                Files.deleteIfExists(stagedFile);
+            }
+        }
+    }
+
+    private void addLoaded(String schema, Segment segment) {
+        List<Segment> overlapping = findOverlapping(schema, segment);
+        if (overlapping.isEmpty()) {
+            segmentsOf(schema).put(segment.firstId(), segment);
+            return;
+        }
+        List<Segment> sources = new ArrayList<>(overlapping);
+        sources.add(segment);
+        merge(schema, sources);
+    }
+
+    private NavigableMap<Long, Segment> segmentsOf(String schema) {
+        return segmentsBySchema.computeIfAbsent(schema, key -> new ConcurrentSkipListMap<>());
+    }
+
+    private Path segmentPath(String schema, long firstId, long lastId) {
+        return directory.resolve(schema).resolve(String.format("orders-%020d-%020d.seg", firstId, lastId));
+    }
+
+    private static void move(Path source, Path target) {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to publish archive segment " + target, e);
+        }
+    }
+
+    private static void deleteIfExists(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete archive segment " + path, e);
+        }
+    }
+
+    record StagedSegment(String schema, Segment segment) {
+    }
+
+    record Segment(long firstId, long lastId, int orderCount, Path path, List<Block> blocks) {
+        private Segment movedTo(Path target) {
+            return new Segment(firstId, lastId, orderCount, target, blocks);
+        }
+
+        private Optional<Block> blockOf(long orderId) {
+            int low = 0;
+            int high = blocks.size() - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                Block block = blocks.get(mid);
+                if (orderId < block.firstId()) {
+                    high = mid - 1;
+                } else if (orderId > block.lastId()) {
+                    low = mid + 1;
+                } else {
+                    return Optional.of(block);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    record Block(long firstId, long lastId, long offset, int length, int orderCount) {
+    }
+}
@@ -3,8 +3,12 @@ package junghun.tdd.spring.api.service.order.response;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import junghun.tdd.spring.api.service.order.archive.ArchivedOrder;
 import junghun.tdd.spring.api.service.product.response.ProductResponse;
+import junghun.tdd.spring.domain.order.Order;
+import junghun.tdd.spring.domain.order.OrderLineSnapshot;
 import junghun.tdd.spring.domain.order.OrderStatus;
+import lombok.Builder;
 import lombok.Getter;
 
 @Getter
@@ -17,4 +21,46 @@ public class OrderResponse {
     private LocalDateTime registeredDateTime;
 
     private List<ProductResponse> products;
+
+    @Builder
+    private OrderResponse(Long id, int totalPrice, LocalDateTime registeredDateTime, List<ProductResponse> products) {
+        this.id = id;
+        this.totalPrice = totalPrice;
+        this.registeredDateTime = registeredDateTime;
+        this.products = products;
+    }
+
+    public static OrderResponse of(Order order) {
+        return OrderResponse.builder()
+            .id(order.getId())
+            .totalPrice(order.getTotalPrice())
+            .registeredDateTime(order.getRegisteredDateTime())
+            .products(order.getOrderProducts().stream()
+                .map(orderProduct -> ProductResponse.of(orderProduct.getProduct()))
+                .toList())
+            .build();
+    }
+
+    public static OrderResponse fromSnapshots(List<OrderLineSnapshot> lines) {
+        OrderLineSnapshot first = lines.get(0);
+        return OrderResponse.builder()
+            .id(first.getOrderId())
+            .totalPrice(first.getOrderTotalPrice())
+            .registeredDateTime(first.getRegisteredDateTime())
+            .products(lines.stream()
+                .map(ProductResponse::of)
+                .toList())
+            .build();
+    }
+
+    public static OrderResponse of(ArchivedOrder order) {
+        return OrderResponse.builder()
+            .id(order.getId())
+            .totalPrice(order.getTotalPrice())
+            .registeredDateTime(order.getRegisteredDateTime())
+            .products(order.getLines().stream()
+                .map(ProductResponse::of)
+                .toList())
+            .build();
+    }
 }
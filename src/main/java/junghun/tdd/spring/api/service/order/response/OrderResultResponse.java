@@ -0,0 +1,40 @@
+package junghun.tdd.spring.api.service.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 스트림 주문의 요청 하나에 대한 결과. 결과는 처리된 순서로 나가므로 requestIndex로 요청과 짝을 맞춘다.
+@Getter
+public class OrderResultResponse {
+    private long requestIndex;
+
+    private boolean success;
+
+    private OrderResponse order;
+
+    private String errorMessage;
+
+    @Builder
+    private OrderResultResponse(long requestIndex, boolean success, OrderResponse order, String errorMessage) {
+        this.requestIndex = requestIndex;
+        this.success = success;
+        this.order = order;
+        this.errorMessage = errorMessage;
+    }
+
+    public static OrderResultResponse success(long requestIndex, OrderResponse order) {
+        return OrderResultResponse.builder()
+            .requestIndex(requestIndex)
+            .success(true)
+            .order(order)
+            .build();
+    }
+
+    public static OrderResultResponse failure(long requestIndex, String errorMessage) {
+        return OrderResultResponse.builder()
+            .requestIndex(requestIndex)
+            .success(false)
+            .errorMessage(errorMessage)
+            .build();
+    }
+}
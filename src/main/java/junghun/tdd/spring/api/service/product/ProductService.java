@@ -4,22 +4,42 @@ import junghun.tdd.spring.api.service.product.response.ProductResponse;
 import junghun.tdd.spring.domain.product.Product;
 import junghun.tdd.spring.domain.product.ProductRepository;
 import junghun.tdd.spring.domain.product.ProductSellingStatus;
+import junghun.tdd.spring.domain.stock.Stock;
+import junghun.tdd.spring.domain.stock.StockRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class ProductService {
     private final ProductRepository productRepository;
+    private final StockRepository stockRepository;
 
-
+    // 판매 상품 중 현재 매장(StoreContext)의 재고가 떨어진 상품은 목록에서 뺀다.
     public List<ProductResponse> getProducts() {
         List<Product> products =  productRepository.findAllBySellingStatusIn(ProductSellingStatus.forDisplay());
+        Set<String> soldOutProductNumbers = findSoldOutProductNumbers(products);
 
         return products.stream()
+                .filter(product -> !soldOutProductNumbers.contains(product.getProductNumber()))
                 .map(ProductResponse::of)
                 .toList();
     }
+
+    private Set<String> findSoldOutProductNumbers(List<Product> products) {
+        List<String> productNumbers = products.stream()
+                .map(Product::getProductNumber)
+                .toList();
+
+        return stockRepository.findAllByProductNumberIn(productNumbers).stream()
+                .filter(Stock::isSoldOut)
+                .map(Stock::getProductNumber)
+                .collect(Collectors.toSet());
+    }
 }
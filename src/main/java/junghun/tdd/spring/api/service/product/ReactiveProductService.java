@@ -0,0 +1,51 @@
+package junghun.tdd.spring.api.service.product;
+
+import io.r2dbc.spi.Readable;
+import junghun.tdd.spring.api.service.product.response.ProductResponse;
+import junghun.tdd.spring.config.tenant.StoreGroups;
+import junghun.tdd.spring.domain.product.ProductSellingStatus;
+import junghun.tdd.spring.domain.product.ProductType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+@Profile("reactive")
+@Service
+@RequiredArgsConstructor
+public class ReactiveProductService {
+    private final DatabaseClient databaseClient;
+    private final StoreGroups storeGroups;
+
+    // 판매 상품 중 매장의 재고가 떨어진 상품은 뺀다. 재고 행이 없는 상품은 수량 제한 없이 판매한다.
+    public Flux<ProductResponse> getProducts(Long storeId) {
+        return databaseClient.sql("select p.id, p.product_number, p.product_type, p.selling_status, p.name, p.price from product p "
+                        + "left join " + storeGroups.schemaOf(storeId) + ".stock s on s.store_id = :storeId and s.product_number = p.product_number "
+                        + "where p.selling_status in (:sellingStatuses) and (s.id is null or s.quantity > 0)")
+                .bind("storeId", storeId)
+                .bind("sellingStatuses", ProductSellingStatus.forDisplay().stream().map(Enum::name).toList())
+                .map(ReactiveProductService::toResponse)
+                .all();
+    }
+
+    public Flux<ProductResponse> getProductsByNumbers(List<String> productNumbers) {
+        return databaseClient.sql("select id, product_number, product_type, selling_status, name, price from product where product_number in (:productNumbers)")
+                .bind("productNumbers", productNumbers)
+                .map(ReactiveProductService::toResponse)
+                .all();
+    }
+
+    private static ProductResponse toResponse(Readable row) {
+        return ProductResponse.builder()
+                .id(row.get("id", Long.class))
+                .productNumber(row.get("product_number", String.class))
+                .productType(ProductType.valueOf(row.get("product_type", String.class)))
+                .productSellingType(ProductSellingStatus.valueOf(row.get("selling_status", String.class)))
+                .name(row.get("name", String.class))
+                .price(row.get("price", Integer.class))
+                .build();
+    }
+}
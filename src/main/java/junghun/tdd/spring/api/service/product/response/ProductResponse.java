@@ -1,6 +1,8 @@
 package junghun.tdd.spring.api.service.product.response;
 
 
+import junghun.tdd.spring.api.service.order.archive.ArchivedOrderLine;
+import junghun.tdd.spring.domain.order.OrderLineSnapshot;
 import junghun.tdd.spring.domain.product.Product;
 import junghun.tdd.spring.domain.product.ProductSellingStatus;
 import junghun.tdd.spring.domain.product.ProductType;
@@ -41,4 +43,25 @@ public class ProductResponse {
                 .price(product.getPrice())
                 .build();
     }
+
+    // 주문 당시의 상품명과 가격을 그대로 보여준다.
+    public static ProductResponse of(OrderLineSnapshot line) {
+        return ProductResponse.builder()
+                .id(line.getProductId())
+                .productNumber(line.getProductNumber())
+                .productType(line.getProductType())
+                .name(line.getName())
+                .price(line.getPrice())
+                .build();
+    }
+
+    public static ProductResponse of(ArchivedOrderLine line) {
+        return ProductResponse.builder()
+                .id(line.getProductId())
+                .productNumber(line.getProductNumber())
+                .productType(line.getProductType())
+                .name(line.getName())
+                .price(line.getPrice())
+                .build();
+    }
 }
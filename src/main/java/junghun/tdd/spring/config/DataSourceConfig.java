@@ -0,0 +1,59 @@
+package junghun.tdd.spring.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import junghun.tdd.spring.config.tenant.StoreGroupDataSource;
+import junghun.tdd.spring.config.tenant.StoreGroups;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/*
+ * primary 풀은 spring.datasource.hikari.*, replica 풀은 kiosk.datasource.replica.hikari.* 로 설정한다.
+ * kiosk.datasource.replica.url이 설정되면 readOnly 트랜잭션을 replica로 보낸다.
+ * 실제 커넥션은 첫 쿼리 시점에 얻으므로, 그 전에 트랜잭션의 readOnly 여부가 결정되어 있다.
+ * 두 풀 모두 커넥션을 얻을 때 현재 매장이 속한 매장 그룹의 스키마로 전환한다.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "kiosk.datasource.replica", name = "url")
+    @ConfigurationProperties("kiosk.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${kiosk.datasource.replica.url}") String replicaUrl) {
+        HikariDataSource replica = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .url(replicaUrl)
+            .build();
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+                                 StoreGroups storeGroups) {
+        LazyConnectionDataSourceProxy routingDataSource =
+            new LazyConnectionDataSourceProxy(new StoreGroupDataSource(primaryDataSource, storeGroups));
+        replicaDataSource.ifAvailable(replica ->
+            routingDataSource.setReadOnlyDataSource(new StoreGroupDataSource(replica, storeGroups)));
+        return routingDataSource;
+    }
+}
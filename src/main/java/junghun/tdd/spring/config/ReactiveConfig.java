@@ -0,0 +1,61 @@
+package junghun.tdd.spring.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import java.time.Duration;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/*
+ * ConnectionFactory는 일부러 빈으로 등록하지 않는다.
+ * 빈으로 등록하면 data.sql 초기화가 R2DBC 쪽으로 넘어가 JPA가 스키마를 만들기 전에 실행되고,
+ * ReactiveTransactionManager 빈은 JPA의 @Transactional과 트랜잭션 매니저 후보가 겹친다.
+ * 빈이 아니므로 풀은 컨텍스트가 닫힐 때 직접 정리한다.
+ */
+@Profile("reactive")
+@Configuration
+public class ReactiveConfig implements DisposableBean {
+    private final ConnectionPool connectionPool;
+
+    public ReactiveConfig(@Value("${kiosk.r2dbc.url}") String url,
+                          @Value("${kiosk.r2dbc.username}") String username,
+                          @Value("${kiosk.r2dbc.password:}") String password,
+                          @Value("${kiosk.r2dbc.pool.initial-size:2}") int initialSize,
+                          @Value("${kiosk.r2dbc.pool.max-size:10}") int maxSize,
+                          @Value("${kiosk.r2dbc.pool.max-idle-time:PT30M}") Duration maxIdleTime,
+                          @Value("${kiosk.r2dbc.pool.max-acquire-time:PT3S}") Duration maxAcquireTime) {
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(ConnectionFactoryOptions.parse(url)
+                .mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build()))
+            .initialSize(initialSize)
+            .maxSize(maxSize)
+            .maxIdleTime(maxIdleTime)
+            .maxAcquireTime(maxAcquireTime)
+            .build());
+    }
+
+    @Bean
+    public DatabaseClient databaseClient() {
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Bean
+    public TransactionalOperator reactiveTransactionalOperator() {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionPool));
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+}
@@ -0,0 +1,63 @@
+package junghun.tdd.spring.config.tenant;
+
+import java.util.function.Supplier;
+
+/*
+ * 현재 요청(스레드)이 어느 매장의 것인지 보관한다.
+ * 매장 정보 없이 들어온 작업은 기본 매장으로 처리한다.
+ */
+public final class StoreContext {
+    public static final Long DEFAULT_STORE_ID = 1L;
+
+    private static final ThreadLocal<Long> CURRENT_STORE_ID = new ThreadLocal<>();
+
+    private StoreContext() {
+    }
+
+    public static Long getCurrentStoreId() {
+        Long storeId = CURRENT_STORE_ID.get();
+        return storeId == null ? DEFAULT_STORE_ID : storeId;
+    }
+
+    public static void setCurrentStoreId(Long storeId) {
+        CURRENT_STORE_ID.set(requireValidStoreId(storeId));
+    }
+
+    // MVC는 StoreContextFilter, WebFlux는 컨트롤러에서 X-Store-Id 헤더를 이 규칙으로 검증한다.
+    public static Long requireValidStoreId(Long storeId) {
+        if (storeId == null || storeId <= 0) {
+            throw new IllegalArgumentException("Store id must be a positive number.");
+        }
+        return storeId;
+    }
+
+    // 스레드에 매장을 두지 않는 WebFlux용으로, 헤더가 없으면 기본 매장을 쓴다.
+    public static Long resolveStoreId(Long storeId) {
+        return storeId == null ? DEFAULT_STORE_ID : requireValidStoreId(storeId);
+    }
+
+    public static void clear() {
+        CURRENT_STORE_ID.remove();
+    }
+
+    public static <T> T callAs(Long storeId, Supplier<T> task) {
+        Long previous = CURRENT_STORE_ID.get();
+        setCurrentStoreId(storeId);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                clear();
+            } else {
+                CURRENT_STORE_ID.set(previous);
+            }
+        }
+    }
+
+    public static void runAs(Long storeId, Runnable task) {
+        callAs(storeId, () -> {
+            task.run();
+            return null;
+        });
+    }
+}
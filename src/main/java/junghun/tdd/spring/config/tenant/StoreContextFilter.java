@@ -0,0 +1,38 @@
+package junghun.tdd.spring.config.tenant;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// 영속성 컨텍스트가 열리기 전에 매장을 정해야 하므로 가장 먼저 실행한다.
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Component
+public class StoreContextFilter extends OncePerRequestFilter {
+    public static final String STORE_ID_HEADER = "X-Store-Id";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String storeId = request.getHeader(STORE_ID_HEADER);
+        try {
+            if (storeId != null) {
+                StoreContext.setCurrentStoreId(Long.valueOf(storeId));
+            }
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "Invalid " + STORE_ID_HEADER + " header.");
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            StoreContext.clear();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package junghun.tdd.spring.config.tenant;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/*
+ * 커넥션을 내줄 때 현재 매장(StoreContext)이 속한 매장 그룹의 스키마로 전환한다.
+ * LazyConnectionDataSourceProxy 아래에 두므로 첫 쿼리 시점의 매장으로 스키마가 정해진다.
+ */
+public class StoreGroupDataSource extends DelegatingDataSource {
+    private final StoreGroups storeGroups;
+
+    public StoreGroupDataSource(DataSource targetDataSource, StoreGroups storeGroups) {
+        super(targetDataSource);
+        this.storeGroups = storeGroups;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return switchSchema(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return switchSchema(super.getConnection(username, password));
+    }
+
+    private Connection switchSchema(Connection connection) throws SQLException {
+        try {
+            connection.setSchema(storeGroups.schemaOf(StoreContext.getCurrentStoreId()));
+            return connection;
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package junghun.tdd.spring.config.tenant;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.stereotype.Component;
+
+/*
+ * Hibernate의 ddl-auto는 기본 스키마(PUBLIC)에만 테이블을 만든다.
+ * 나머지 매장 그룹 스키마의 주문/재고 테이블은 상품 테이블이 만들어진 뒤(EntityManagerFactory 이후) 같은 구조로 만든다.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.jpa.hibernate.ddl-auto", havingValue = "create")
+public class StoreGroupSchemaInitializer {
+    private static final ClassPathResource STORE_GROUP_SCHEMA = new ClassPathResource("db/store-group-schema.sql");
+
+    private final DataSource dataSource;
+    private final StoreGroups storeGroups;
+
+    public StoreGroupSchemaInitializer(DataSource dataSource, StoreGroups storeGroups, EntityManagerFactory entityManagerFactory) {
+        this.dataSource = dataSource;
+        this.storeGroups = storeGroups;
+    }
+
+    @PostConstruct
+    void createStoreGroupSchemas() throws SQLException {
+        for (String schema : storeGroups.getSchemas()) {
+            if (StoreGroups.DEFAULT_SCHEMA.equals(schema)) {
+                continue;
+            }
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("create schema if not exists " + schema);
+                connection.setSchema(schema);
+                ScriptUtils.executeSqlScript(connection, STORE_GROUP_SCHEMA);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package junghun.tdd.spring.config.tenant;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * 매장을 store-groups개의 매장 그룹으로 나누고, 그룹마다 주문/재고 테이블을 별도 스키마에 둔다.
+ * 0번 그룹은 상품 카탈로그가 있는 기본 스키마(PUBLIC)를 그대로 쓰고, 나머지 그룹은 STORE_GROUP_n 스키마를 쓴다.
+ */
+@Component
+public class StoreGroups {
+    public static final String DEFAULT_SCHEMA = "PUBLIC";
+
+    private static final String SCHEMA_PREFIX = "STORE_GROUP_";
+
+    private final List<String> schemas;
+
+    public StoreGroups(@Value("${kiosk.tenancy.store-groups:4}") int groupCount) {
+        if (groupCount <= 0) {
+            throw new IllegalArgumentException("Store group count must be greater than zero.");
+        }
+        this.schemas = IntStream.range(0, groupCount)
+            .mapToObj(group -> group == 0 ? DEFAULT_SCHEMA : SCHEMA_PREFIX + group)
+            .toList();
+    }
+
+    public String schemaOf(Long storeId) {
+        return schemas.get((int) ((StoreContext.requireValidStoreId(storeId) - 1) % schemas.size()));
+    }
+
+    public List<String> getSchemas() {
+        return schemas;
+    }
+}
@@ -0,0 +1,30 @@
+package junghun.tdd.spring.config.tenant;
+
+import java.util.Map;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+/*
+ * @TenantId 가 붙은 엔티티는 세션을 열 때의 매장으로 저장되고, 조회할 때도 그 매장의 행만 읽는다.
+ * 테이블 자체는 StoreGroupDataSource가 고른 매장 그룹 스키마에 있으므로, 같은 그룹의 매장끼리만 테이블을 공유한다.
+ */
+@Component
+public class StoreIdentifierResolver implements CurrentTenantIdentifierResolver<Long>, HibernatePropertiesCustomizer {
+
+    @Override
+    public Long resolveCurrentTenantIdentifier() {
+        return StoreContext.getCurrentStoreId();
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return false;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, this);
+    }
+}
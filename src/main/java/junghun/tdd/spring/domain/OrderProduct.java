@@ -13,6 +13,7 @@ import junghun.tdd.spring.domain.product.Product;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.TenantId;
 
 @Entity
 @Getter
@@ -22,6 +23,10 @@ public class OrderProduct extends BaseEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // 주문과 같은 매장으로 채워진다.
+    @TenantId
+    private Long storeId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     private Order order;
 
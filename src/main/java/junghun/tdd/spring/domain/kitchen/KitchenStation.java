@@ -0,0 +1,22 @@
+package junghun.tdd.spring.domain.kitchen;
+
+import java.time.Duration;
+import junghun.tdd.spring.domain.product.ProductType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum KitchenStation {
+    BARISTA("제조 스테이션", Duration.ofMinutes(3)),
+    COUNTER("픽업 카운터", Duration.ofSeconds(30));
+
+    private final String text;
+
+    private final Duration defaultPreparationTime;
+
+    // 제조 음료만 바리스타의 손을 거치고, 병/캔 음료와 제과는 카운터에서 바로 준비한다.
+    public static KitchenStation from(ProductType productType) {
+        return productType == ProductType.HANDMADE ? BARISTA : COUNTER;
+    }
+}
@@ -7,27 +7,35 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import junghun.tdd.spring.domain.OrderProduct;
 import junghun.tdd.spring.domain.product.BaseEntity;
+import junghun.tdd.spring.domain.product.Product;
 import lombok.AccessLevel;
-import lombok.Generated;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.TenantId;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "orders")
+@Table(name = "orders", indexes = @Index(name = "idx_orders_store_id", columnList = "storeId, id"))
 @Entity
 public class Order extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // 저장 시점의 StoreContext 매장으로 채워진다.
+    @TenantId
+    private Long storeId;
+
     @Enumerated(EnumType.STRING)
     private OrderStatus orderStatus;
 
@@ -44,4 +52,43 @@ public class Order extends BaseEntity {
      */
     @OneToMany(mappedBy = "order" , cascade = CascadeType.ALL)
     private List<OrderProduct> orderProducts = new ArrayList<>(); // 지연로딩시 npe를 방지
+
+    @Builder
+    private Order(List<Product> products, LocalDateTime registeredDateTime) {
+        this.orderStatus = OrderStatus.INIT;
+        this.totalPrice = calculateTotalPrice(products);
+        this.registeredDateTime = registeredDateTime;
+        this.orderProducts = products.stream()
+            .map(product -> new OrderProduct(this, product))
+            .collect(Collectors.toList());
+    }
+
+    public static Order create(List<Product> products, LocalDateTime registeredDateTime) {
+        return Order.builder()
+            .products(products)
+            .registeredDateTime(registeredDateTime)
+            .build();
+    }
+
+    // 새 주문이나 결제가 끝난 주문만 주방에서 접수할 수 있다.
+    public void receive() {
+        if (this.orderStatus != OrderStatus.INIT && this.orderStatus != OrderStatus.PAYMENT_COMPLETED) {
+            throw new IllegalStateException("Only new or paid orders can be received.");
+        }
+        this.orderStatus = OrderStatus.RECEIVED;
+    }
+
+    // 모든 스테이션의 제조가 끝난 접수 주문만 완료 처리할 수 있다.
+    public void complete() {
+        if (this.orderStatus != OrderStatus.RECEIVED) {
+            throw new IllegalStateException("Only received orders can be completed.");
+        }
+        this.orderStatus = OrderStatus.COMPLETED;
+    }
+
+    private int calculateTotalPrice(List<Product> products) {
+        return products.stream()
+            .mapToInt(Product::getPrice)
+            .sum();
+    }
 }
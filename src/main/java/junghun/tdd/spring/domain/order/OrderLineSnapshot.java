@@ -0,0 +1,93 @@
+package junghun.tdd.spring.domain.order;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import junghun.tdd.spring.domain.OrderProduct;
+import junghun.tdd.spring.domain.product.BaseEntity;
+import junghun.tdd.spring.domain.product.Product;
+import junghun.tdd.spring.domain.product.ProductType;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.TenantId;
+
+/*
+ * 주문 조회 전용 비정규화 모델.
+ * 주문 시점에 주문 정보와 상품 정보(가격 포함)를 한 줄에 복사해두므로
+ * 이후 상품 가격이 바뀌어도 과거 주문은 그대로이며, 조회는 조인 없이 한 테이블에서 끝난다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "order_line_snapshot", indexes = @Index(name = "idx_order_line_snapshot_store_order", columnList = "storeId, orderId"))
+@Entity
+public class OrderLineSnapshot extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @TenantId
+    private Long storeId;
+
+    private Long orderId;
+
+    private int orderTotalPrice;
+
+    private LocalDateTime registeredDateTime;
+
+    private int lineNumber;
+
+    private Long productId;
+
+    private String productNumber;
+
+    @Enumerated(EnumType.STRING)
+    private ProductType productType;
+
+    private String name;
+
+    private int price;
+
+    @Builder
+    private OrderLineSnapshot(Long orderId, int orderTotalPrice, LocalDateTime registeredDateTime, int lineNumber, Long productId, String productNumber, ProductType productType, String name, int price) {
+        this.orderId = orderId;
+        this.orderTotalPrice = orderTotalPrice;
+        this.registeredDateTime = registeredDateTime;
+        this.lineNumber = lineNumber;
+        this.productId = productId;
+        this.productNumber = productNumber;
+        this.productType = productType;
+        this.name = name;
+        this.price = price;
+    }
+
+    public static List<OrderLineSnapshot> listOf(Order order) {
+        List<OrderProduct> orderProducts = order.getOrderProducts();
+        return IntStream.range(0, orderProducts.size())
+            .mapToObj(lineNumber -> of(order, lineNumber, orderProducts.get(lineNumber).getProduct()))
+            .toList();
+    }
+
+    private static OrderLineSnapshot of(Order order, int lineNumber, Product product) {
+        return OrderLineSnapshot.builder()
+            .orderId(order.getId())
+            .orderTotalPrice(order.getTotalPrice())
+            .registeredDateTime(order.getRegisteredDateTime())
+            .lineNumber(lineNumber)
+            .productId(product.getId())
+            .productNumber(product.getProductNumber())
+            .productType(product.getProductType())
+            .name(product.getName())
+            .price(product.getPrice())
+            .build();
+    }
+}
@@ -0,0 +1,11 @@
+package junghun.tdd.spring.domain.order;
+
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OrderLineSnapshotRepository extends JpaRepository<OrderLineSnapshot, Long> {
+
+    List<OrderLineSnapshot> findAllByOrderIdOrderByLineNumber(Long orderId);
+}
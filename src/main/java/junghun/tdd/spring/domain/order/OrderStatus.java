@@ -1,5 +1,6 @@
 package junghun.tdd.spring.domain.order;
 
+import java.util.List;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -13,6 +14,8 @@ public enum OrderStatus {
     RECEIVED,
     COMPLETED;
 
-
-
+    // 더 이상 바뀌지 않는 주문 상태로, 보관 기간이 지나면 아카이브로 옮긴다.
+    public static List<OrderStatus> forArchive() {
+        return List.of(CANCLED, COMPLETED);
+    }
 }
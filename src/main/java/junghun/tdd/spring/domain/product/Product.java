@@ -7,7 +7,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+// 상품 카탈로그는 모든 매장 그룹이 함께 쓰므로, 커넥션의 스키마와 관계없이 기본 스키마를 가리킨다.
 @Entity
+@Table(schema = "PUBLIC")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Product extends BaseEntity {
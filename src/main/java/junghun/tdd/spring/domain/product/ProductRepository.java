@@ -9,4 +9,6 @@ import java.util.List;
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
     List<Product> findAllBySellingStatusIn(List<ProductSellingStatus> sellingTypes);
+
+    List<Product> findAllByProductNumberIn(List<String> productNumbers);
 }
@@ -0,0 +1,52 @@
+package junghun.tdd.spring.domain.stock;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import junghun.tdd.spring.domain.product.BaseEntity;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.TenantId;
+
+/*
+ * 매장별 상품 재고.
+ * 재고 행이 없는 상품(주문 즉시 만드는 제조 음료 등)은 수량 제한 없이 판매한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_stock_store_product_number", columnList = "storeId, productNumber", unique = true))
+@Entity
+public class Stock extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @TenantId
+    private Long storeId;
+
+    private String productNumber;
+
+    private int quantity;
+
+    @Builder
+    private Stock(String productNumber, int quantity) {
+        this.productNumber = productNumber;
+        this.quantity = quantity;
+    }
+
+    public static Stock create(String productNumber, int quantity) {
+        return Stock.builder()
+            .productNumber(productNumber)
+            .quantity(quantity)
+            .build();
+    }
+
+    public boolean isSoldOut() {
+        return this.quantity <= 0;
+    }
+}
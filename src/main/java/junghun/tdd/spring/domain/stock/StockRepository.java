@@ -0,0 +1,21 @@
+package junghun.tdd.spring.domain.stock;
+
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StockRepository extends JpaRepository<Stock, Long> {
+
+    List<Stock> findAllByProductNumberIn(List<String> productNumbers);
+
+    boolean existsByProductNumber(String productNumber);
+
+    // 남은 수량이 충분할 때만 차감하므로, 같은 매장의 동시 주문도 읽고-쓰기 사이에 서로의 차감을 덮어쓰지 않는다.
+    @Modifying
+    @Query("update Stock s set s.quantity = s.quantity - :quantity where s.storeId = :storeId and s.productNumber = :productNumber and s.quantity >= :quantity")
+    int deductQuantity(@Param("storeId") Long storeId, @Param("productNumber") String productNumber, @Param("quantity") int quantity);
+}
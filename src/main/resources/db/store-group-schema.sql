@@ -0,0 +1,53 @@
+-- 매장 그룹 스키마의 주문/재고 테이블. 엔티티 매핑(Order, OrderProduct, OrderLineSnapshot, Stock)과 같은 구조를 유지한다.
+-- 상품 카탈로그는 모든 매장이 PUBLIC.product를 함께 쓴다.
+drop table if exists order_line_snapshot;
+drop table if exists order_product;
+drop table if exists orders;
+drop table if exists stock;
+
+create table orders (
+    id bigint generated by default as identity primary key,
+    store_id bigint not null,
+    order_status varchar(255),
+    total_price integer not null,
+    registered_date_time timestamp(6),
+    create_date_time timestamp(6),
+    modified_date_time timestamp(6)
+);
+create index idx_orders_store_id on orders (store_id, id);
+
+create table order_product (
+    id bigint generated by default as identity primary key,
+    store_id bigint not null,
+    order_id bigint references orders (id),
+    product_id bigint references public.product (id),
+    create_date_time timestamp(6),
+    modified_date_time timestamp(6)
+);
+
+create table order_line_snapshot (
+    id bigint generated by default as identity primary key,
+    store_id bigint not null,
+    order_id bigint,
+    order_total_price integer not null,
+    registered_date_time timestamp(6),
+    line_number integer not null,
+    product_id bigint,
+    product_number varchar(255),
+    product_type varchar(255),
+    name varchar(255),
+    price integer not null,
+    create_date_time timestamp(6),
+    modified_date_time timestamp(6)
+);
+create index idx_order_line_snapshot_store_order on order_line_snapshot (store_id, order_id);
+
+create table stock (
+    id bigint generated by default as identity primary key,
+    store_id bigint not null,
+    product_number varchar(255),
+    quantity integer not null,
+    create_date_time timestamp(6),
+    modified_date_time timestamp(6)
+);
+create unique index idx_stock_store_product_number on stock (store_id, product_number);
@@ -0,0 +1,40 @@
+package junghun.tdd.spring.api.controller.product;
+
+import junghun.tdd.spring.config.tenant.StoreContextFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@ActiveProfiles("reactive")
+@SpringBootTest(properties = {"spring.sql.init.mode=never", "spring.main.web-application-type=reactive"})
+@AutoConfigureWebTestClient
+class ReactiveProductControllerTest {
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @DisplayName("매장 헤더가 없으면 기본 매장의 판매 상품을 조회한다.")
+    @Test
+    void getProductsOfDefaultStore() {
+        webTestClient.get().uri("/api/v1/products/selling")
+            .exchange()
+            .expectStatus().isOk();
+    }
+
+    @DisplayName("매장 id가 양수가 아니면 MVC와 같이 400으로 거절한다.")
+    @Test
+    void rejectNonPositiveStoreId() {
+        webTestClient.get().uri("/api/v1/products/selling")
+            .header(StoreContextFilter.STORE_ID_HEADER, "0")
+            .exchange()
+            .expectStatus().isBadRequest();
+
+        webTestClient.post().uri("/api/v1/orders/new?productNumbers=001")
+            .header(StoreContextFilter.STORE_ID_HEADER, "-3")
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+}
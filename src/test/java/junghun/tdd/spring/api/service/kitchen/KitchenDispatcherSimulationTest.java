@@ -0,0 +1,182 @@
+package junghun.tdd.spring.api.service.kitchen;
+
+import static junghun.tdd.spring.domain.product.ProductSellingStatus.SELLING;
+import static junghun.tdd.spring.domain.product.ProductType.BOTTLE;
+import static junghun.tdd.spring.domain.product.ProductType.HANDMADE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import junghun.tdd.spring.domain.kitchen.KitchenStation;
+import junghun.tdd.spring.domain.product.Product;
+import junghun.tdd.spring.domain.product.ProductType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/*
+ * 시간당 1,000건 주문을 흉내 낸 이산 사건 시뮬레이션으로 디스패처를 단일 FIFO 큐와 비교한다.
+ * 시계를 직접 움직이므로 실제로 기다리지 않고, 시드가 같으면 결과도 같다.
+ * FIFO 쪽은 같은 인원(바리스타 + 카운터)이 주문 하나를 통째로 맡아 차례대로 만든다.
+ */
+class KitchenDispatcherSimulationTest {
+    private static final long SEED = 20250101L;
+    private static final int ORDERS_PER_HOUR = 1000;
+    private static final Duration SIMULATED_PERIOD = Duration.ofHours(2);
+    private static final int MAX_ITEMS_PER_ORDER = 3;
+    private static final double HANDMADE_RATIO = 0.6;
+    private static final Duration HANDMADE_PREPARATION = Duration.ofSeconds(45);
+    private static final Duration COUNTER_PREPARATION = Duration.ofSeconds(10);
+    private static final int BARISTA_COUNT = 18;
+    private static final int COUNTER_COUNT = 3;
+
+    private final Product handmade = createProduct(HANDMADE, "001");
+    private final Product bottle = createProduct(BOTTLE, "002");
+
+    @DisplayName("시간당 1,000건 주문에서 스테이션 분배가 단일 FIFO 큐보다 p99 대기시간이 짧고 처리량이 적지 않다.")
+    @Test
+    void dispatcherBeatsSingleFifoQueue() {
+        // given
+        List<SimulatedOrder> orders = generateOrders(new Random(SEED));
+
+        // when
+        SimulationResult dispatcher = simulateDispatcher(orders);
+        SimulationResult fifo = simulateSingleFifo(orders, BARISTA_COUNT + COUNTER_COUNT);
+
+        // then
+        assertThat(dispatcher.completedCount()).isEqualTo(orders.size());
+        assertThat(fifo.completedCount()).isEqualTo(orders.size());
+        assertThat(dispatcher.p99Latency()).isLessThan(fifo.p99Latency());
+        assertThat(dispatcher.ordersPerHour()).isGreaterThanOrEqualTo(fifo.ordersPerHour());
+    }
+
+    // 도착 간격은 지수분포(포아송 도착), 주문당 상품은 1~3개, 그중 60%가 제조 음료다.
+    private List<SimulatedOrder> generateOrders(Random random) {
+        double meanInterArrivalNanos = (double) Duration.ofHours(1).toNanos() / ORDERS_PER_HOUR;
+        List<SimulatedOrder> orders = new ArrayList<>();
+        long arrivalNanos = 0;
+        while (true) {
+            arrivalNanos += (long) (-Math.log(1 - random.nextDouble()) * meanInterArrivalNanos);
+            if (arrivalNanos > SIMULATED_PERIOD.toNanos()) {
+                return orders;
+            }
+            int itemCount = 1 + random.nextInt(MAX_ITEMS_PER_ORDER);
+            List<Product> products = new ArrayList<>(itemCount);
+            for (int i = 0; i < itemCount; i++) {
+                products.add(random.nextDouble() < HANDMADE_RATIO ? handmade : bottle);
+            }
+            orders.add(new SimulatedOrder(orders.size() + 1L, arrivalNanos, List.copyOf(products)));
+        }
+    }
+
+    // 사건이 하나 처리될 때마다 쉬고 있는 직원이 디스패처에서 다음 작업을 꺼낸다.
+    private SimulationResult simulateDispatcher(List<SimulatedOrder> orders) {
+        AtomicLong clock = new AtomicLong();
+        KitchenDispatcher dispatcher = new KitchenDispatcher(BARISTA_COUNT, COUNTER_COUNT, clock::get);
+        List<Worker> workers = new ArrayList<>();
+        for (int lane = 0; lane < BARISTA_COUNT; lane++) {
+            workers.add(new Worker(KitchenStation.BARISTA, lane));
+        }
+        for (int lane = 0; lane < COUNTER_COUNT; lane++) {
+            workers.add(new Worker(KitchenStation.COUNTER, lane));
+        }
+        boolean[] busy = new boolean[workers.size()];
+
+        PriorityQueue<Event> events = new PriorityQueue<>();
+        long sequence = 0;
+        for (SimulatedOrder order : orders) {
+            events.add(new Event(order.arrivalNanos(), sequence++, order, -1, -1L));
+        }
+
+        List<Long> latencies = new ArrayList<>();
+        long lastCompletionNanos = 0;
+        while (!events.isEmpty()) {
+            Event event = events.poll();
+            long now = event.atNanos();
+            clock.set(now);
+            if (event.order() != null) {
+                dispatcher.dispatch(event.order().id(), event.order().products());
+            } else {
+                busy[event.worker()] = false;
+                Optional<Long> completed = dispatcher.finish(event.ticketId());
+                if (completed.isPresent()) {
+                    latencies.add(now - orders.get((int) (completed.get() - 1)).arrivalNanos());
+                    lastCompletionNanos = now;
+                }
+            }
+
+            for (int i = 0; i < workers.size(); i++) {
+                if (busy[i]) {
+                    continue;
+                }
+                Optional<KitchenTicket> ticket = dispatcher.next(workers.get(i).station(), workers.get(i).lane());
+                if (ticket.isPresent()) {
+                    busy[i] = true;
+                    long finishNanos = now + preparationTime(ticket.get().getProductType()).toNanos();
+                    events.add(new Event(finishNanos, sequence++, null, i, ticket.get().getId()));
+                }
+            }
+        }
+        return SimulationResult.of(latencies, orders.get(0).arrivalNanos(), lastCompletionNanos);
+    }
+
+    // 먼저 비는 직원이 가장 오래 기다린 주문을 통째로 맡는다.
+    private SimulationResult simulateSingleFifo(List<SimulatedOrder> orders, int workerCount) {
+        PriorityQueue<Long> freeAtNanos = new PriorityQueue<>(Collections.nCopies(workerCount, 0L));
+        List<Long> latencies = new ArrayList<>();
+        long lastCompletionNanos = 0;
+        for (SimulatedOrder order : orders) {
+            long startNanos = Math.max(freeAtNanos.poll(), order.arrivalNanos());
+            long finishNanos = startNanos + order.products().stream()
+                .mapToLong(product -> preparationTime(product.getProductType()).toNanos())
+                .sum();
+            freeAtNanos.add(finishNanos);
+            latencies.add(finishNanos - order.arrivalNanos());
+            lastCompletionNanos = Math.max(lastCompletionNanos, finishNanos);
+        }
+        return SimulationResult.of(latencies, orders.get(0).arrivalNanos(), lastCompletionNanos);
+    }
+
+    private Duration preparationTime(ProductType productType) {
+        return KitchenStation.from(productType) == KitchenStation.BARISTA ? HANDMADE_PREPARATION : COUNTER_PREPARATION;
+    }
+
+    private Product createProduct(ProductType type, String productNumber) {
+        return Product.builder()
+                .productType(type)
+                .productNumber(productNumber)
+                .name("메뉴이름")
+                .price(4000)
+                .sellingStatus(SELLING)
+                .build();
+    }
+
+    private record SimulatedOrder(long id, long arrivalNanos, List<Product> products) {
+    }
+
+    private record Worker(KitchenStation station, int lane) {
+    }
+
+    // 도착 사건은 order가, 완료 사건은 worker와 ticketId가 채워진다. 같은 시각이면 먼저 생긴 사건부터 처리한다.
+    private record Event(long atNanos, long sequence, SimulatedOrder order, int worker, long ticketId) implements Comparable<Event> {
+        @Override
+        public int compareTo(Event other) {
+            int byTime = Long.compare(atNanos, other.atNanos);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private record SimulationResult(int completedCount, Duration p99Latency, double ordersPerHour) {
+        private static SimulationResult of(List<Long> latencies, long firstArrivalNanos, long lastCompletionNanos) {
+            List<Long> sorted = latencies.stream().sorted().toList();
+            long p99 = sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+            double hours = (double) (lastCompletionNanos - firstArrivalNanos) / Duration.ofHours(1).toNanos();
+            return new SimulationResult(sorted.size(), Duration.ofNanos(p99), sorted.size() / hours);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package junghun.tdd.spring.api.service.kitchen;
+
+import static junghun.tdd.spring.domain.product.ProductSellingStatus.SELLING;
+import static junghun.tdd.spring.domain.product.ProductType.BOTTLE;
+import static junghun.tdd.spring.domain.product.ProductType.HANDMADE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import junghun.tdd.spring.domain.kitchen.KitchenStation;
+import junghun.tdd.spring.domain.product.Product;
+import junghun.tdd.spring.domain.product.ProductType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KitchenDispatcherTest {
+    private final AtomicLong clock = new AtomicLong();
+
+    private final KitchenDispatcher kitchenDispatcher = new KitchenDispatcher(2, 1, clock::get);
+
+    @DisplayName("제조 음료는 바리스타 스테이션으로, 병 음료는 카운터로 나누어 배정한다.")
+    @Test
+    void dispatchByStation() {
+        // given
+        List<Product> products = List.of(createProduct(HANDMADE, "001"), createProduct(BOTTLE, "002"));
+
+        // when
+        kitchenDispatcher.dispatch(1L, products);
+
+        // then
+        assertThat(kitchenDispatcher.getMetrics(KitchenStation.BARISTA).getQueueLength()).isEqualTo(1);
+        assertThat(kitchenDispatcher.getMetrics(KitchenStation.COUNTER).getQueueLength()).isEqualTo(1);
+    }
+
+    @DisplayName("자기 큐가 빈 바리스타는 다른 바리스타의 큐에서 작업을 가져온다.")
+    @Test
+    void stealFromOtherBarista() {
+        // given
+        kitchenDispatcher.dispatch(1L, List.of(createProduct(HANDMADE, "001")));
+
+        // when
+        KitchenTicket first = kitchenDispatcher.next(KitchenStation.BARISTA, 1).orElseThrow();
+
+        // then
+        assertThat(first.getProductNumber()).isEqualTo("001");
+        assertThat(kitchenDispatcher.next(KitchenStation.BARISTA, 0)).isEmpty();
+    }
+
+    @DisplayName("모든 스테이션의 작업이 끝나야 주문이 완료된다.")
+    @Test
+    void completeWhenAllStationsFinished() {
+        // given
+        kitchenDispatcher.dispatch(1L, List.of(createProduct(HANDMADE, "001"), createProduct(BOTTLE, "002")));
+        KitchenTicket handmade = kitchenDispatcher.next(KitchenStation.BARISTA, 0).orElseThrow();
+        KitchenTicket bottle = kitchenDispatcher.next(KitchenStation.COUNTER, 0).orElseThrow();
+
+        // when
+        Optional<Long> afterBottle = kitchenDispatcher.finish(bottle.getId());
+        clock.addAndGet(Duration.ofMinutes(2).toNanos());
+        Optional<Long> afterHandmade = kitchenDispatcher.finish(handmade.getId());
+
+        // then
+        assertThat(afterBottle).isEmpty();
+        assertThat(afterHandmade).contains(1L);
+        assertThat(kitchenDispatcher.getMetrics(KitchenStation.BARISTA).getMaxLatency()).isEqualTo(Duration.ofMinutes(2));
+    }
+
+    @DisplayName("병 음료만 있는 주문은 밀려 있는 제조 음료를 기다리지 않는다.")
+    @Test
+    void bottleOrderDoesNotWaitForBaristas() {
+        // given
+        for (long orderId = 1; orderId <= 10; orderId++) {
+            kitchenDispatcher.dispatch(orderId, List.of(createProduct(HANDMADE, "001")));
+        }
+        List<Product> bottleOrder = List.of(createProduct(BOTTLE, "002"));
+        kitchenDispatcher.dispatch(11L, bottleOrder);
+
+        // when
+        Duration estimatedWaitTime = kitchenDispatcher.estimateWaitTime(bottleOrder);
+        Optional<Long> completed = kitchenDispatcher.finish(kitchenDispatcher.next(KitchenStation.COUNTER, 0).orElseThrow().getId());
+
+        // then
+        assertThat(estimatedWaitTime).isEqualTo(KitchenStation.COUNTER.getDefaultPreparationTime());
+        assertThat(kitchenDispatcher.estimateWaitTime(KitchenStation.BARISTA))
+            .isEqualTo(KitchenStation.BARISTA.getDefaultPreparationTime().multipliedBy(5));
+        assertThat(completed).contains(11L);
+    }
+
+    @DisplayName("같은 주문을 두 번 배정할 수 없고, 끝난 작업은 다시 끝낼 수 없다.")
+    @Test
+    void dispatchOrFinishTwice() {
+        // given
+        kitchenDispatcher.dispatch(1L, List.of(createProduct(HANDMADE, "001"), createProduct(HANDMADE, "001")));
+
+        // when, then
+        assertThatThrownBy(() -> kitchenDispatcher.dispatch(1L, List.of(createProduct(HANDMADE, "001"))))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("The order has already been dispatched.");
+
+        KitchenTicket ticket = kitchenDispatcher.next(KitchenStation.BARISTA, 0).orElseThrow();
+        kitchenDispatcher.finish(ticket.getId());
+        assertThatThrownBy(() -> kitchenDispatcher.finish(ticket.getId()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("No started ticket: " + ticket.getId());
+    }
+
+    private Product createProduct(ProductType type, String productNumber) {
+        return Product.builder()
+                .productType(type)
+                .productNumber(productNumber)
+                .name("메뉴이름")
+                .price(4000)
+                .sellingStatus(SELLING)
+                .build();
+    }
+}
@@ -0,0 +1,177 @@
+package junghun.tdd.spring.api.service.kitchen;
+
+import static junghun.tdd.spring.domain.product.ProductSellingStatus.SELLING;
+import static junghun.tdd.spring.domain.product.ProductType.BOTTLE;
+import static junghun.tdd.spring.domain.product.ProductType.HANDMADE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import junghun.tdd.spring.api.controller.order.request.OrderCreateRequest;
+import junghun.tdd.spring.api.service.kitchen.response.KitchenOrderResponse;
+import junghun.tdd.spring.api.service.kitchen.response.KitchenTicketResponse;
+import junghun.tdd.spring.api.service.order.OrderService;
+import junghun.tdd.spring.config.tenant.StoreContext;
+import junghun.tdd.spring.domain.kitchen.KitchenStation;
+import junghun.tdd.spring.domain.order.OrderRepository;
+import junghun.tdd.spring.domain.order.OrderStatus;
+import junghun.tdd.spring.domain.product.Product;
+import junghun.tdd.spring.domain.product.ProductRepository;
+import junghun.tdd.spring.domain.product.ProductType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class KitchenServiceTest {
+    @Autowired
+    private KitchenService kitchenService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from order_line_snapshot");
+        jdbcTemplate.update("delete from order_product");
+        jdbcTemplate.update("delete from orders");
+        productRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("접수한 주문을 스테이션별로 만들고, 마지막 작업이 끝나면 주문을 완료 상태로 저장한다.")
+    @Test
+    void receiveAndCompleteOrder() {
+        // given
+        productRepository.saveAll(List.of(createProduct(HANDMADE, "001"), createProduct(BOTTLE, "002")));
+        Long orderId = createOrder("001", "002");
+
+        // when
+        KitchenOrderResponse received = kitchenService.receiveOrder(orderId);
+        KitchenTicketResponse handmade = kitchenService.next(KitchenStation.BARISTA, 0).orElseThrow();
+        KitchenTicketResponse bottle = kitchenService.next(KitchenStation.COUNTER, 0).orElseThrow();
+        kitchenService.finishTicket(bottle.getId());
+        OrderStatus afterBottle = orderRepository.findById(orderId).orElseThrow().getOrderStatus();
+        kitchenService.finishTicket(handmade.getId());
+
+        // then
+        assertThat(received.getOrderStatus()).isEqualTo(OrderStatus.RECEIVED);
+        assertThat(handmade.getProductNumber()).isEqualTo("001");
+        assertThat(bottle.getProductNumber()).isEqualTo("002");
+        assertThat(afterBottle).isEqualTo(OrderStatus.RECEIVED);
+        assertThat(orderRepository.findById(orderId).orElseThrow().getOrderStatus()).isEqualTo(OrderStatus.COMPLETED);
+    }
+
+    @DisplayName("이미 접수한 주문은 다시 접수할 수 없고, 주방 큐에도 한 번만 들어간다.")
+    @Test
+    void receiveOrderTwice() {
+        // given
+        productRepository.save(createProduct(HANDMADE, "001"));
+        Long orderId = createOrder("001");
+        kitchenService.receiveOrder(orderId);
+
+        // when, then
+        assertThatThrownBy(() -> kitchenService.receiveOrder(orderId))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Only new or paid orders can be received.");
+        assertThat(kitchenService.next(KitchenStation.BARISTA, 0)).isPresent();
+        assertThat(kitchenService.next(KitchenStation.BARISTA, 0)).isEmpty();
+    }
+
+    @DisplayName("접수할 때 알려주는 대기시간에는 이미 밀린 작업과 함께 이 주문의 상품도 들어간다.")
+    @Test
+    void estimateWaitTimeIncludingOwnItems() {
+        // given
+        Long storeId = 5L;
+        productRepository.saveAll(List.of(createProduct(HANDMADE, "001"), createProduct(BOTTLE, "002")));
+        Long firstOrderId = StoreContext.callAs(storeId, () -> createOrder("001", "002"));
+        Long secondOrderId = StoreContext.callAs(storeId, () -> createOrder("001", "001"));
+
+        // when
+        KitchenOrderResponse first = StoreContext.callAs(storeId, () -> kitchenService.receiveOrder(firstOrderId));
+        KitchenOrderResponse second = StoreContext.callAs(storeId, () -> kitchenService.receiveOrder(secondOrderId));
+
+        // then
+        Duration handmade = KitchenStation.BARISTA.getDefaultPreparationTime();
+        assertThat(first.getEstimatedWaitTime()).isEqualTo(handmade);
+        assertThat(second.getEstimatedWaitTime()).isEqualTo(handmade.multipliedBy(2));
+    }
+
+    @DisplayName("완료 저장이 롤백되면 작업이 큐에 남아 있어 다시 끝낼 수 있다.")
+    @Test
+    void finishTicketAgainAfterRollback() {
+        // given
+        productRepository.save(createProduct(HANDMADE, "001"));
+        Long orderId = createOrder("001");
+        kitchenService.receiveOrder(orderId);
+        KitchenTicketResponse ticket = kitchenService.next(KitchenStation.BARISTA, 0).orElseThrow();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            kitchenService.finishTicket(ticket.getId());
+            status.setRollbackOnly();
+        });
+        OrderStatus afterRollback = orderRepository.findById(orderId).orElseThrow().getOrderStatus();
+        kitchenService.finishTicket(ticket.getId());
+
+        // then
+        assertThat(afterRollback).isEqualTo(OrderStatus.RECEIVED);
+        assertThat(orderRepository.findById(orderId).orElseThrow().getOrderStatus()).isEqualTo(OrderStatus.COMPLETED);
+    }
+
+    @DisplayName("재시작하면 접수 상태로 남은 주문을 다시 주방 큐에 넣는다.")
+    @Test
+    void restoreReceivedOrders() {
+        // given
+        Long storeId = 9L;
+        productRepository.saveAll(List.of(createProduct(HANDMADE, "001"), createProduct(BOTTLE, "002")));
+        Long orderId = StoreContext.callAs(storeId, () -> createOrder("001", "002"));
+        jdbcTemplate.update("update orders set order_status = 'RECEIVED' where id = ?", orderId);
+
+        // when
+        kitchenService.restoreReceivedOrders();
+
+        // then
+        StoreContext.runAs(storeId, () -> {
+            assertThat(kitchenService.next(KitchenStation.BARISTA, 0))
+                .hasValueSatisfying(ticket -> assertThat(ticket.getOrderId()).isEqualTo(orderId));
+            assertThat(kitchenService.next(KitchenStation.COUNTER, 0))
+                .hasValueSatisfying(ticket -> assertThat(ticket.getProductNumber()).isEqualTo("002"));
+        });
+    }
+
+    private Long createOrder(String... productNumbers) {
+        return orderService.createOrder(OrderCreateRequest.builder()
+            .productNumbers(List.of(productNumbers))
+            .build())
+            .getId();
+    }
+
+    private Product createProduct(ProductType type, String productNumber) {
+        return Product.builder()
+                .productType(type)
+                .productNumber(productNumber)
+                .name("메뉴이름")
+                .price(4000)
+                .sellingStatus(SELLING)
+                .build();
+    }
+}
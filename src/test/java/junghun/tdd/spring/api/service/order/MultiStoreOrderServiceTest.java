@@ -0,0 +1,184 @@
+package junghun.tdd.spring.api.service.order;
+
+import static junghun.tdd.spring.domain.product.ProductSellingStatus.SELLING;
+import static junghun.tdd.spring.domain.product.ProductType.BOTTLE;
+import static junghun.tdd.spring.domain.product.ProductType.HANDMADE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import junghun.tdd.spring.api.controller.order.request.OrderCreateRequest;
+import junghun.tdd.spring.config.tenant.StoreContext;
+import junghun.tdd.spring.config.tenant.StoreGroups;
+import junghun.tdd.spring.domain.order.OrderRepository;
+import junghun.tdd.spring.domain.product.Product;
+import junghun.tdd.spring.domain.product.ProductRepository;
+import junghun.tdd.spring.domain.product.ProductType;
+import junghun.tdd.spring.domain.stock.Stock;
+import junghun.tdd.spring.domain.stock.StockRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class MultiStoreOrderServiceTest {
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private StoreGroups storeGroups;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 매장 필터는 JPA 조회에만 걸리므로, 모든 매장 그룹 스키마의 데이터를 지우기 위해 SQL을 직접 사용한다.
+    @AfterEach
+    void tearDown() {
+        for (String schema : storeGroups.getSchemas()) {
+            jdbcTemplate.update("delete from " + schema + ".order_line_snapshot");
+            jdbcTemplate.update("delete from " + schema + ".order_product");
+            jdbcTemplate.update("delete from " + schema + ".orders");
+            jdbcTemplate.update("delete from " + schema + ".stock");
+        }
+        jdbcTemplate.update("delete from product");
+    }
+
+    @DisplayName("여러 매장이 동시에 주문해도 주문은 매장 그룹의 스키마에 나뉘어 저장되고, 각 매장은 자기 주문만 조회한다.")
+    @Test
+    void createOrdersConcurrentlyFromManyStores() throws Exception {
+        // given
+        productRepository.save(createProduct(HANDMADE, "001", 4000));
+        int storeCount = 20;
+        int ordersPerStore = 10;
+        OrderCreateRequest request = OrderCreateRequest.builder()
+            .productNumbers(List.of("001"))
+            .build();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(storeCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (long storeId = 1; storeId <= storeCount; storeId++) {
+            long currentStoreId = storeId;
+            futures.add(executorService.submit(() -> {
+                start.await();
+                StoreContext.runAs(currentStoreId, () -> {
+                    for (int i = 0; i < ordersPerStore; i++) {
+                        orderService.createOrder(request);
+                    }
+                });
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        // then
+        int groupCount = storeGroups.getSchemas().size();
+        for (String schema : storeGroups.getSchemas()) {
+            assertThat(jdbcTemplate.queryForObject("select count(*) from " + schema + ".orders", Long.class))
+                .isEqualTo((long) storeCount / groupCount * ordersPerStore);
+        }
+        LongStream.rangeClosed(1, storeCount).forEach(storeId ->
+            assertThat(StoreContext.callAs(storeId, orderRepository::count)).isEqualTo((long) ordersPerStore));
+    }
+
+    @DisplayName("재고는 주문한 매장의 재고만 차감된다.")
+    @Test
+    void deductStockOfOrderingStore() {
+        // given
+        productRepository.save(createProduct(BOTTLE, "002", 2000));
+        StoreContext.runAs(1L, () -> stockRepository.save(Stock.create("002", 1)));
+        StoreContext.runAs(2L, () -> stockRepository.save(Stock.create("002", 1)));
+        OrderCreateRequest request = OrderCreateRequest.builder()
+            .productNumbers(List.of("002"))
+            .build();
+
+        // when
+        StoreContext.runAs(1L, () -> orderService.createOrder(request));
+
+        // then
+        assertThat(StoreContext.callAs(1L, () -> stockRepository.findAll().get(0).getQuantity())).isZero();
+        assertThat(StoreContext.callAs(2L, () -> stockRepository.findAll().get(0).getQuantity())).isEqualTo(1);
+        assertThatThrownBy(() -> StoreContext.runAs(1L, () -> orderService.createOrder(request)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Not enough stock for product number: 002");
+    }
+
+    @DisplayName("같은 매장에서 동시에 주문해도 남은 재고보다 많이 팔지 않고, 부족한 주문은 재고 부족으로 거절한다.")
+    @Test
+    void deductStockConcurrentlyInSameStore() throws Exception {
+        // given
+        productRepository.save(createProduct(BOTTLE, "002", 2000));
+        int stockQuantity = 10;
+        int orderCount = 30;
+        StoreContext.runAs(3L, () -> stockRepository.save(Stock.create("002", stockQuantity)));
+        OrderCreateRequest request = OrderCreateRequest.builder()
+            .productNumbers(List.of("002"))
+            .build();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < orderCount; i++) {
+            futures.add(executorService.submit(() -> {
+                start.await();
+                try {
+                    StoreContext.runAs(3L, () -> orderService.createOrder(request));
+                } catch (IllegalArgumentException e) {
+                    assertThat(e).hasMessage("Not enough stock for product number: 002");
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(rejected.get()).isEqualTo(orderCount - stockQuantity);
+        assertThat(StoreContext.callAs(3L, orderRepository::count)).isEqualTo((long) stockQuantity);
+        assertThat(StoreContext.callAs(3L, () -> stockRepository.findAll().get(0).getQuantity())).isZero();
+    }
+
+    private Product createProduct(ProductType type, String productNumber, int price) {
+        return Product.builder()
+                .productType(type)
+                .productNumber(productNumber)
+                .name("메뉴이름")
+                .price(price)
+                .sellingStatus(SELLING)
+                .build();
+    }
+}
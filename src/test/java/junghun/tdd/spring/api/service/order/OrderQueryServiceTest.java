@@ -0,0 +1,91 @@
+package junghun.tdd.spring.api.service.order;
+
+import static junghun.tdd.spring.domain.product.ProductSellingStatus.SELLING;
+import static junghun.tdd.spring.domain.product.ProductType.BOTTLE;
+import static junghun.tdd.spring.domain.product.ProductType.HANDMADE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import java.util.List;
+import junghun.tdd.spring.api.controller.order.request.OrderCreateRequest;
+import junghun.tdd.spring.api.service.order.response.OrderResponse;
+import junghun.tdd.spring.domain.product.Product;
+import junghun.tdd.spring.domain.product.ProductRepository;
+import junghun.tdd.spring.domain.product.ProductType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class OrderQueryServiceTest {
+    @Autowired
+    private OrderQueryService orderQueryService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from order_line_snapshot");
+        jdbcTemplate.update("delete from order_product");
+        jdbcTemplate.update("delete from orders");
+        productRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("상품 가격이 바뀌어도 주문 당시의 가격으로 주문을 조회한다.")
+    @Test
+    void getOrderWithPurchasePrice() {
+        // given
+        productRepository.saveAll(List.of(
+            createProduct(HANDMADE, "001", 4000),
+            createProduct(BOTTLE, "002", 2000)));
+        OrderResponse created = orderService.createOrder(OrderCreateRequest.builder()
+            .productNumbers(List.of("001", "002", "001"))
+            .build());
+        jdbcTemplate.update("update product set price = price + 500");
+
+        // when
+        OrderResponse response = orderQueryService.getOrder(created.getId());
+
+        // then
+        assertThat(response.getTotalPrice()).isEqualTo(10000);
+        assertThat(response.getProducts()).hasSize(3)
+            .extracting("productNumber", "price")
+            .containsExactly(
+                tuple("001", 4000),
+                tuple("002", 2000),
+                tuple("001", 4000)
+            );
+    }
+
+    @DisplayName("존재하지 않는 주문은 조회할 수 없다.")
+    @Test
+    void getUnknownOrder() {
+        // when, then
+        assertThatThrownBy(() -> orderQueryService.getOrder(-1L))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Unknown order id: -1");
+    }
+
+    private Product createProduct(ProductType type, String productNumber, int price) {
+        return Product.builder()
+                .productType(type)
+                .productNumber(productNumber)
+                .name("메뉴이름")
+                .price(price)
+                .sellingStatus(SELLING)
+                .build();
+    }
+}
@@ -4,6 +4,7 @@ import static junghun.tdd.spring.domain.product.ProductSellingStatus.SELLING;
 import static junghun.tdd.spring.domain.product.ProductSellingStatus.STOP_SELLING;
 import static junghun.tdd.spring.domain.product.ProductType.HANDMADE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.groups.Tuple.tuple;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -63,6 +64,24 @@ class OrderServiceTest {
 
     }
 
+    @DisplayName("상품번호가 없거나 비어 있으면 주문을 생성할 수 없다.")
+    @Test
+    void createOrderWithoutProductNumbers() {
+        // given
+        OrderCreateRequest missing = OrderCreateRequest.builder().build();
+        OrderCreateRequest empty = OrderCreateRequest.builder()
+            .productNumbers(List.of())
+            .build();
+
+        // when, then
+        assertThatThrownBy(() -> orderService.createOrder(missing))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Product numbers must not be empty.");
+        assertThatThrownBy(() -> orderService.createOrder(empty))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Product numbers must not be empty.");
+    }
+
     // builder 패턴을 사용하면 라인이 너무 길어져 이런식으로 간단하게 엔티티를 생성할 수 있는 메소드를 구현
     private Product createProduct(ProductType type, String productNumber,  int price) {
         return Product.builder()
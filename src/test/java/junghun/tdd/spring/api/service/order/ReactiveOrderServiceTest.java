@@ -0,0 +1,176 @@
+package junghun.tdd.spring.api.service.order;
+
+import static junghun.tdd.spring.domain.product.ProductSellingStatus.SELLING;
+import static junghun.tdd.spring.domain.product.ProductType.BOTTLE;
+import static junghun.tdd.spring.domain.product.ProductType.HANDMADE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import java.util.List;
+import junghun.tdd.spring.api.controller.order.request.OrderCreateRequest;
+import junghun.tdd.spring.config.tenant.StoreContext;
+import junghun.tdd.spring.domain.product.Product;
+import junghun.tdd.spring.domain.product.ProductRepository;
+import junghun.tdd.spring.domain.product.ProductType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@ActiveProfiles("reactive")
+@SpringBootTest(properties = "spring.sql.init.mode=never")
+class ReactiveOrderServiceTest {
+    @Autowired
+    private ReactiveOrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @AfterEach
+    void tearDown() {
+        Flux.concat(
+                databaseClient.sql("delete from order_line_snapshot").then(),
+                databaseClient.sql("delete from order_product").then(),
+                databaseClient.sql("delete from orders").then(),
+                databaseClient.sql("delete from stock").then(),
+                databaseClient.sql("delete from product").then())
+            .blockLast();
+    }
+
+    @DisplayName("상품번호 리스트를 받아 주문을 생성한다.")
+    @Test
+    void createOrder() {
+        // given
+        productRepository.saveAll(List.of(
+            createProduct(HANDMADE, "001", 4000),
+            createProduct(BOTTLE, "002", 2000)));
+
+        OrderCreateRequest request = OrderCreateRequest.builder()
+            .productNumbers(List.of("001", "002", "001"))
+            .build();
+
+        // when, then
+        StepVerifier.create(orderService.createOrder(request, StoreContext.DEFAULT_STORE_ID))
+            .assertNext(response -> {
+                assertThat(response.getId()).isNotNull();
+                assertThat(response.getTotalPrice()).isEqualTo(10000);
+                assertThat(response.getProducts()).hasSize(3)
+                    .extracting("productNumber", "price")
+                    .containsExactly(
+                        tuple("001", 4000),
+                        tuple("002", 2000),
+                        tuple("001", 4000)
+                    );
+            })
+            .verifyComplete();
+    }
+
+    @DisplayName("스트림으로 들어온 주문을 모두 생성한다.")
+    @Test
+    void createOrders() {
+        // given
+        productRepository.save(createProduct(HANDMADE, "001", 4000));
+
+        Flux<OrderCreateRequest> requests = Flux.range(0, 20)
+            .map(i -> OrderCreateRequest.builder()
+                .productNumbers(List.of("001"))
+                .build());
+
+        // when, then
+        StepVerifier.create(orderService.createOrders(requests, StoreContext.DEFAULT_STORE_ID).collectList())
+            .assertNext(results -> assertThat(results).hasSize(20)
+                .allSatisfy(result -> assertThat(result.isSuccess()).isTrue()))
+            .verifyComplete();
+    }
+
+    @DisplayName("스트림 중 실패한 주문은 그 요청의 실패 결과로 내보내고, 나머지 주문은 계속 생성한다.")
+    @Test
+    void createOrdersWithFailedRequest() {
+        // given
+        productRepository.save(createProduct(HANDMADE, "001", 4000));
+
+        Flux<OrderCreateRequest> requests = Flux.range(0, 5)
+            .map(i -> OrderCreateRequest.builder()
+                .productNumbers(List.of(i == 2 ? "999" : "001"))
+                .build());
+
+        // when, then
+        StepVerifier.create(orderService.createOrders(requests, StoreContext.DEFAULT_STORE_ID).collectList())
+            .assertNext(results -> assertThat(results).hasSize(5)
+                .extracting("requestIndex", "success", "errorMessage")
+                .containsExactlyInAnyOrder(
+                    tuple(0L, true, null),
+                    tuple(1L, true, null),
+                    tuple(2L, false, "Unknown product number: 999"),
+                    tuple(3L, true, null),
+                    tuple(4L, true, null)
+                ))
+            .verifyComplete();
+        StepVerifier.create(databaseClient.sql("select count(*) as order_count from orders").map(row -> row.get("order_count", Long.class)).one())
+            .expectNext(4L)
+            .verifyComplete();
+    }
+
+    @DisplayName("주문한 매장의 재고를 차감하고, 재고가 부족하면 주문 전체를 되돌린다.")
+    @Test
+    void createOrderWithStock() {
+        // given
+        productRepository.saveAll(List.of(
+            createProduct(HANDMADE, "001", 4000),
+            createProduct(BOTTLE, "002", 2000)));
+        databaseClient.sql("insert into stock (store_id, product_number, quantity) values (:storeId, '002', 1)")
+            .bind("storeId", StoreContext.DEFAULT_STORE_ID)
+            .then()
+            .block();
+
+        OrderCreateRequest request = OrderCreateRequest.builder()
+            .productNumbers(List.of("001", "002"))
+            .build();
+
+        // when, then
+        StepVerifier.create(orderService.createOrder(request, StoreContext.DEFAULT_STORE_ID))
+            .expectNextCount(1)
+            .verifyComplete();
+        StepVerifier.create(orderService.createOrder(request, StoreContext.DEFAULT_STORE_ID))
+            .expectErrorMessage("Not enough stock for product number: 002")
+            .verify();
+        StepVerifier.create(databaseClient.sql("select quantity from stock").map(row -> row.get("quantity", Integer.class)).one())
+            .expectNext(0)
+            .verifyComplete();
+        StepVerifier.create(databaseClient.sql("select count(*) as order_count from orders").map(row -> row.get("order_count", Long.class)).one())
+            .expectNext(1L)
+            .verifyComplete();
+    }
+
+    @DisplayName("존재하지 않는 상품번호로는 주문을 생성할 수 없다.")
+    @Test
+    void createOrderWithUnknownProduct() {
+        // given
+        OrderCreateRequest request = OrderCreateRequest.builder()
+            .productNumbers(List.of("999"))
+            .build();
+
+        // when, then
+        StepVerifier.create(orderService.createOrder(request, StoreContext.DEFAULT_STORE_ID))
+            .expectErrorMessage("Unknown product number: 999")
+            .verify();
+    }
+
+    private Product createProduct(ProductType type, String productNumber, int price) {
+        return Product.builder()
+                .productType(type)
+                .productNumber(productNumber)
+                .name("메뉴이름")
+                .price(price)
+                .sellingStatus(SELLING)
+                .build();
+    }
+}
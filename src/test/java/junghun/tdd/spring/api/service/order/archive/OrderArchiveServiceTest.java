@@ -0,0 +1,186 @@
+package junghun.tdd.spring.api.service.order.archive;
+
+import static junghun.tdd.spring.domain.product.ProductSellingStatus.SELLING;
+import static junghun.tdd.spring.domain.product.ProductType.HANDMADE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import junghun.tdd.spring.api.service.order.OrderQueryService;
+import junghun.tdd.spring.api.service.order.response.OrderResponse;
+import junghun.tdd.spring.config.tenant.StoreContext;
+import junghun.tdd.spring.config.tenant.StoreGroups;
+import junghun.tdd.spring.domain.order.Order;
+import junghun.tdd.spring.domain.order.OrderLineSnapshot;
+import junghun.tdd.spring.domain.order.OrderLineSnapshotRepository;
+import junghun.tdd.spring.domain.order.OrderRepository;
+import junghun.tdd.spring.domain.product.Product;
+import junghun.tdd.spring.domain.product.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {"kiosk.archive.retention=P7D", "kiosk.archive.batch-size=2"})
+class OrderArchiveServiceTest {
+    @TempDir
+    static Path archiveDirectory;
+
+    @DynamicPropertySource
+    static void archiveProperties(DynamicPropertyRegistry registry) {
+        registry.add("kiosk.archive.directory", () -> archiveDirectory.toString());
+    }
+
+    @Autowired
+    private OrderArchiveService orderArchiveService;
+
+    @MockitoSpyBean
+    private OrderArchiveStore orderArchiveStore;
+
+    @Autowired
+    private OrderQueryService orderQueryService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderLineSnapshotRepository orderLineSnapshotRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StoreGroups storeGroups;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        for (String schema : storeGroups.getSchemas()) {
+            jdbcTemplate.update("delete from " + schema + ".order_line_snapshot");
+            jdbcTemplate.update("delete from " + schema + ".order_product");
+            jdbcTemplate.update("delete from " + schema + ".orders");
+        }
+        jdbcTemplate.update("delete from product");
+    }
+
+    @DisplayName("보관 기간이 지난 완료 주문만 배치로 나누어 아카이브로 옮긴다.")
+    @Test
+    void archiveClosedOrders() {
+        // given
+        Product product = productRepository.save(createProduct("001", 4000));
+        LocalDateTime old = LocalDateTime.of(2025, 1, 1, 10, 0);
+        LocalDateTime recent = LocalDateTime.of(2025, 1, 19, 10, 0);
+        List<Order> oldCompletedOrders = List.of(
+            saveOrder(product, old, true),
+            saveOrder(product, old, true),
+            saveOrder(product, old, true));
+        saveOrder(product, old, false);
+        saveOrder(product, recent, true);
+
+        // when
+        OrderArchiveMetrics metrics = orderArchiveService.archive(LocalDateTime.of(2025, 1, 20, 0, 0));
+
+        // then
+        assertThat(metrics.getLastRunArchivedCount()).isEqualTo(3);
+        assertThat(metrics.getLagBeforeRun()).isEqualTo(Duration.between(old, LocalDateTime.of(2025, 1, 13, 0, 0)));
+        assertThat(metrics.getLag()).isEqualTo(Duration.ZERO);
+        assertThat(orderRepository.count()).isEqualTo(2);
+        assertThat(oldCompletedOrders)
+            .allSatisfy(order -> assertThat(orderArchiveStore.find(StoreGroups.DEFAULT_SCHEMA, order.getId())).isPresent());
+    }
+
+    @DisplayName("커밋 후 게시에 실패한 세그먼트는 다음 아카이브 실행에서 게시되어 다시 조회된다.")
+    @Test
+    void publishStagedSegmentOnNextRun() {
+        // given
+        Product product = productRepository.save(createProduct("001", 4000));
+        Order order = saveOrder(product, LocalDateTime.of(2025, 1, 1, 10, 0), true);
+        doThrow(new UncheckedIOException("Failed to publish archive segment", new IOException("disk full")))
+            .doCallRealMethod()
+            .when(orderArchiveStore).publish(any());
+
+        // when
+        orderArchiveService.archive(LocalDateTime.of(2025, 1, 20, 0, 0));
+        boolean foundAfterFailedPublish = orderArchiveStore.find(StoreGroups.DEFAULT_SCHEMA, order.getId()).isPresent();
+        orderArchiveService.archive(LocalDateTime.of(2025, 1, 20, 1, 0));
+
+        // then
+        assertThat(foundAfterFailedPublish).isFalse();
+        assertThat(orderRepository.count()).isZero();
+        assertThat(orderQueryService.getOrder(order.getId()).getTotalPrice()).isEqualTo(4000);
+    }
+
+    @DisplayName("다른 매장 그룹 스키마의 주문도 아카이브하고, 그 매장에서 조회한다.")
+    @Test
+    void archiveOrdersOfOtherStoreGroup() {
+        // given
+        Product product = productRepository.save(createProduct("001", 4000));
+        Long storeId = 2L;
+        Order order = StoreContext.callAs(storeId, () -> saveOrder(product, LocalDateTime.of(2025, 1, 1, 10, 0), true));
+
+        // when
+        OrderArchiveMetrics metrics = orderArchiveService.archive(LocalDateTime.of(2025, 1, 20, 0, 0));
+
+        // then
+        assertThat(metrics.getLastRunArchivedCount()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from " + storeGroups.schemaOf(storeId) + ".orders", Long.class)).isZero();
+        assertThat(StoreContext.callAs(storeId, () -> orderQueryService.getOrder(order.getId())).getTotalPrice()).isEqualTo(4000);
+    }
+
+    @DisplayName("아카이브된 주문도 주문 당시의 가격으로 조회한다.")
+    @Test
+    void getArchivedOrder() {
+        // given
+        Product product = productRepository.save(createProduct("001", 4000));
+        Order order = saveOrder(product, LocalDateTime.of(2025, 1, 1, 10, 0), true);
+        orderArchiveService.archive(LocalDateTime.of(2025, 1, 20, 0, 0));
+        jdbcTemplate.update("update product set price = 5000");
+
+        // when
+        OrderResponse response = orderQueryService.getOrder(order.getId());
+
+        // then
+        assertThat(response.getTotalPrice()).isEqualTo(4000);
+        assertThat(response.getProducts()).hasSize(1)
+            .extracting("productNumber", "price")
+            .containsExactly(tuple("001", 4000));
+    }
+
+    private Order saveOrder(Product product, LocalDateTime registeredDateTime, boolean completed) {
+        Order order = Order.create(List.of(product), registeredDateTime);
+        order.receive();
+        if (completed) {
+            order.complete();
+        }
+        Order savedOrder = orderRepository.save(order);
+        orderLineSnapshotRepository.saveAll(OrderLineSnapshot.listOf(savedOrder));
+        return savedOrder;
+    }
+
+    private Product createProduct(String productNumber, int price) {
+        return Product.builder()
+                .productType(HANDMADE)
+                .productNumber(productNumber)
+                .name("메뉴이름")
+                .price(price)
+                .sellingStatus(SELLING)
+                .build();
+    }
+}
@@ -0,0 +1,139 @@
+package junghun.tdd.spring.api.service.order.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import junghun.tdd.spring.api.service.order.archive.OrderArchiveStore.StagedSegment;
+import junghun.tdd.spring.domain.order.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OrderArchiveStoreTest {
+    private static final String SCHEMA = "PUBLIC";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir
+    Path directory;
+
+    @DisplayName("스테이징한 세그먼트는 게시한 뒤에만 조회되고, 버리면 파일도 남지 않는다.")
+    @Test
+    void publishOrDiscardStagedSegment() throws IOException {
+        // given
+        OrderArchiveStore store = createStore(64, 10000);
+        StagedSegment committed = store.stage(SCHEMA, createOrders(1, 2, 3));
+        StagedSegment rolledBack = store.stage(SCHEMA, createOrders(4, 5));
+
+        // when
+        boolean foundBeforePublish = store.find(SCHEMA, 2L).isPresent();
+        store.publish(committed);
+        store.discard(rolledBack);
+
+        // then
+        assertThat(foundBeforePublish).isFalse();
+        assertThat(store.find(SCHEMA, 2L)).isPresent();
+        assertThat(store.find(SCHEMA, 4L)).isEmpty();
+        assertThat(listFiles()).containsExactly("orders-00000000000000000001-00000000000000000003.seg");
+    }
+
+    @DisplayName("이미 아카이브된 범위와 겹치는 세그먼트는 합쳐서 범위가 겹치지 않게 유지한다.")
+    @Test
+    void mergeOverlappingSegment() {
+        // given
+        OrderArchiveStore store = createStore(2, 10000);
+        store.publish(store.stage(SCHEMA, createOrders(1, 3, 5)));
+
+        // when
+        store.publish(store.stage(SCHEMA, createOrders(2, 4)));
+
+        // then
+        assertThat(store.getSegmentCount()).isEqualTo(1);
+        assertThat(LongStream.rangeClosed(1, 5))
+            .allSatisfy(orderId -> assertThat(store.find(SCHEMA, orderId)).isPresent());
+    }
+
+    @DisplayName("이웃한 작은 세그먼트를 목표 크기 이하로 묶어 합친다.")
+    @Test
+    void compactSmallSegments() {
+        // given
+        OrderArchiveStore store = createStore(2, 10);
+        for (long firstId = 1; firstId <= 10; firstId += 3) {
+            store.publish(store.stage(SCHEMA, createOrders(firstId, firstId + 1, firstId + 2)));
+        }
+
+        // when
+        store.compact(SCHEMA);
+
+        // then
+        assertThat(store.getSegmentCount()).isEqualTo(2);
+        assertThat(LongStream.rangeClosed(1, 12))
+            .allSatisfy(orderId -> assertThat(store.find(SCHEMA, orderId))
+                .hasValueSatisfying(order -> assertThat(order.getId()).isEqualTo(orderId)));
+    }
+
+    @DisplayName("다시 시작하면 디렉터리에서 인덱스를 만들고, 게시하지 못한 스테이징 세그먼트를 게시한다.")
+    @Test
+    void reloadSegmentsFromDirectory() {
+        // given
+        OrderArchiveStore store = createStore(64, 10000);
+        store.publish(store.stage(SCHEMA, createOrders(1, 2)));
+        store.stage(SCHEMA, createOrders(3, 4));
+
+        // when
+        OrderArchiveStore reloaded = createStore(64, 10000);
+
+        // then
+        assertThat(reloaded.getSegmentCount()).isEqualTo(2);
+        assertThat(reloaded.find(SCHEMA, 1L)).isPresent();
+        assertThat(reloaded.find(SCHEMA, 4L)).isPresent();
+        assertThat(reloaded.find("STORE_GROUP_1", 1L)).isEmpty();
+    }
+
+    @DisplayName("게시하지 못하고 남은 스테이징 세그먼트를 재시작 없이 게시한다.")
+    @Test
+    void recoverStagedSegment() {
+        // given
+        OrderArchiveStore store = createStore(64, 10000);
+        store.publish(store.stage(SCHEMA, createOrders(1, 2)));
+        store.stage(SCHEMA, createOrders(3, 4));
+
+        // when
+        store.recoverStaged(SCHEMA);
+        store.recoverStaged("STORE_GROUP_1");
+
+        // then
+        assertThat(store.getSegmentCount()).isEqualTo(2);
+        assertThat(store.find(SCHEMA, 4L)).isPresent();
+    }
+
+    private OrderArchiveStore createStore(int blockSize, int compactionTargetSize) {
+        return new OrderArchiveStore(directory.toString(), blockSize, compactionTargetSize, objectMapper);
+    }
+
+    private List<String> listFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory.resolve(SCHEMA))) {
+            return files.map(file -> file.getFileName().toString()).toList();
+        }
+    }
+
+    private List<ArchivedOrder> createOrders(long... orderIds) {
+        return LongStream.of(orderIds)
+            .mapToObj(orderId -> ArchivedOrder.builder()
+                .id(orderId)
+                .storeId(1L)
+                .orderStatus(OrderStatus.COMPLETED)
+                .totalPrice(4000)
+                .registeredDateTime(LocalDateTime.of(2025, 1, 1, 10, 0))
+                .lines(List.of())
+                .build())
+            .toList();
+    }
+}
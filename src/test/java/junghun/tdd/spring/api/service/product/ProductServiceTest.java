@@ -0,0 +1,79 @@
+package junghun.tdd.spring.api.service.product;
+
+import static junghun.tdd.spring.domain.product.ProductSellingStatus.SELLING;
+import static junghun.tdd.spring.domain.product.ProductType.BOTTLE;
+import static junghun.tdd.spring.domain.product.ProductType.HANDMADE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import junghun.tdd.spring.api.service.product.response.ProductResponse;
+import junghun.tdd.spring.config.tenant.StoreContext;
+import junghun.tdd.spring.config.tenant.StoreGroups;
+import junghun.tdd.spring.domain.product.Product;
+import junghun.tdd.spring.domain.product.ProductRepository;
+import junghun.tdd.spring.domain.product.ProductType;
+import junghun.tdd.spring.domain.stock.Stock;
+import junghun.tdd.spring.domain.stock.StockRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class ProductServiceTest {
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private StoreGroups storeGroups;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        for (String schema : storeGroups.getSchemas()) {
+            jdbcTemplate.update("delete from " + schema + ".stock");
+        }
+        productRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("판매 상품 목록에서 현재 매장의 재고가 떨어진 상품만 뺀다.")
+    @Test
+    void getProductsExcludingSoldOutOfStore() {
+        // given
+        productRepository.saveAll(List.of(
+            createProduct(HANDMADE, "001"),
+            createProduct(BOTTLE, "002")));
+        StoreContext.runAs(1L, () -> stockRepository.save(Stock.create("002", 0)));
+        StoreContext.runAs(2L, () -> stockRepository.save(Stock.create("002", 3)));
+
+        // when
+        List<ProductResponse> storeOneProducts = StoreContext.callAs(1L, productService::getProducts);
+        List<ProductResponse> storeTwoProducts = StoreContext.callAs(2L, productService::getProducts);
+
+        // then
+        assertThat(storeOneProducts).extracting("productNumber").containsExactly("001");
+        assertThat(storeTwoProducts).extracting("productNumber").containsExactlyInAnyOrder("001", "002");
+    }
+
+    private Product createProduct(ProductType type, String productNumber) {
+        return Product.builder()
+                .productType(type)
+                .productNumber(productNumber)
+                .name("메뉴이름")
+                .price(4000)
+                .sellingStatus(SELLING)
+                .build();
+    }
+}
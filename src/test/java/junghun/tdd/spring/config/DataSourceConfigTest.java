@@ -0,0 +1,93 @@
+package junghun.tdd.spring.config;
+
+import static junghun.tdd.spring.domain.product.ProductSellingStatus.SELLING;
+import static junghun.tdd.spring.domain.product.ProductType.HANDMADE;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.List;
+import junghun.tdd.spring.api.controller.order.request.OrderCreateRequest;
+import junghun.tdd.spring.api.service.order.OrderService;
+import junghun.tdd.spring.api.service.order.response.OrderResponse;
+import junghun.tdd.spring.domain.product.Product;
+import junghun.tdd.spring.domain.product.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@ActiveProfiles({"test", "replica"})
+@SpringBootTest
+@AutoConfigureMockMvc
+class DataSourceConfigTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoSpyBean(name = "primaryDataSource")
+    private HikariDataSource primaryDataSource;
+
+    @MockitoSpyBean(name = "replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from order_line_snapshot");
+        jdbcTemplate.update("delete from order_product");
+        jdbcTemplate.update("delete from orders");
+        productRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("주문 생성은 primary에서, OSIV가 켜진 요청의 읽기 전용 주문 조회는 replica에서 커넥션을 얻는다.")
+    @Test
+    void routeReadOnlyTransactionToReplica() throws Exception {
+        // given
+        productRepository.save(Product.builder()
+            .productType(HANDMADE)
+            .productNumber("001")
+            .name("아메리카노")
+            .price(4000)
+            .sellingStatus(SELLING)
+            .build());
+        clearInvocations(primaryDataSource, replicaDataSource);
+
+        // when
+        OrderResponse created = orderService.createOrder(OrderCreateRequest.builder()
+            .productNumbers(List.of("001"))
+            .build());
+
+        // then
+        verify(primaryDataSource, atLeastOnce()).getConnection();
+        verify(replicaDataSource, never()).getConnection();
+
+        // when
+        clearInvocations(primaryDataSource, replicaDataSource);
+        mockMvc.perform(get("/api/v1/orders/{orderId}", created.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalPrice").value(4000));
+
+        // then
+        verify(replicaDataSource, atLeastOnce()).getConnection();
+        verify(primaryDataSource, never()).getConnection();
+    }
+}